@@ -0,0 +1,163 @@
+/*
+ * PackingProcessor.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * A {@link Flow.Processor} that packs the pieces it subscribes to and
+ * publishes bins as they close, so pieces from an asynchronous source are
+ * packed without first being buffered into a list.
+ * <p>
+ * Pieces are packed by an {@link OnlinePacker}, see it for when bins close.
+ * Closed bins are published with {@link SubmissionPublisher#submit}, which
+ * blocks while a subscriber's buffer is full, so a slow subscriber holds up
+ * the source rather than closed bins piling up. Pieces are requested in
+ * batches as big as the room left for open bins, or the buffer capacity
+ * when open bins are not bounded, and the next batch only once the last one
+ * has arrived. When the source completes the remaining open bins are
+ * published and the processor closes, when it fails the failure is passed
+ * on.
+ * <p>
+ * The processor needs Java 9 or later and is built from its own source set,
+ * the rest of the library only needs Java 8. It is final so its constructor
+ * can hand {@link #submit} to the packer before it returns.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+public final class PackingProcessor<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    extends SubmissionPublisher<B>
+    implements Flow.Processor<P, B> {
+
+  private final OnlinePacker<P, C, B> onlinePacker;
+
+  private Flow.Subscription subscription;
+
+  /**
+   * Pieces requested and not yet received.
+   */
+  private long outstanding;
+
+  /**
+   * Creates a processor publishing with the common pool and the default
+   * buffer capacity.
+   *
+   * @param binPacker           Provides the packing policy and new bins.
+   * @param availableCapacities Capacities for new bins.
+   * @param smallestPiece       The smallest piece expected, a bin that can't
+   *                            fit it is closed.
+   */
+  public PackingProcessor(final BinPacker<P, C, B> binPacker,
+                          final List<C> availableCapacities,
+                          final P smallestPiece) {
+
+    this(binPacker, availableCapacities, smallestPiece,
+         ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+  }
+
+  /**
+   * Creates a processor.
+   *
+   * @param binPacker           Provides the packing policy and new bins.
+   * @param availableCapacities Capacities for new bins.
+   * @param smallestPiece       The smallest piece expected, a bin that can't
+   *                            fit it is closed.
+   * @param executor            Delivers bins to subscribers.
+   * @param maxBufferCapacity   The most bins buffered per subscriber.
+   */
+  public PackingProcessor(final BinPacker<P, C, B> binPacker,
+                          final List<C> availableCapacities,
+                          final P smallestPiece,
+                          final Executor executor,
+                          final int maxBufferCapacity) {
+
+    super(executor, maxBufferCapacity);
+    this.onlinePacker = new OnlinePacker<>(binPacker, availableCapacities,
+                                           smallestPiece, this::submit);
+  }
+
+  /**
+   * Bounds the number of open bins, see {@link OnlinePacker#setMaxOpenBins}.
+   * Call before subscribing.
+   *
+   * @param maxOpenBins The most bins kept open, at least one.
+   * @param eviction    Chooses the bin to close when a new bin is needed.
+   * @return this processor.
+   */
+  public PackingProcessor<P, C, B> setMaxOpenBins(
+      final int maxOpenBins,
+      final OnlinePacker.Eviction eviction) {
+
+    onlinePacker.setMaxOpenBins(maxOpenBins, eviction);
+    return this;
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+
+    Objects.requireNonNull(subscription);
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    requestMore();
+  }
+
+  @Override
+  public void onNext(final P piece) {
+
+    try {
+      onlinePacker.offer(piece);
+    } catch (RuntimeException | AssertionError e) {
+      subscription.cancel();
+      closeExceptionally(e);
+      return;
+    }
+    if (--outstanding == 0) {
+      requestMore();
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+
+    closeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+
+    onlinePacker.flush();
+    close();
+  }
+
+  /**
+   * Requests as many pieces as there is room for open bins.
+   */
+  private void requestMore() {
+
+    final int maxOpenBins = onlinePacker.getMaxOpenBins();
+    final long batch = maxOpenBins == Integer.MAX_VALUE
+                       ? getMaxBufferCapacity()
+                       : maxOpenBins - onlinePacker.getOpenBins().size();
+    outstanding = Math.max(1, batch);
+    subscription.request(outstanding);
+  }
+}
@@ -7,9 +7,16 @@
 
 package net.jnellis.binpack;
 
+import net.jnellis.binpack.collectors.AlmostWorstFitPackingCollector;
 import net.jnellis.binpack.collectors.BestFitPackingCollector;
+import net.jnellis.binpack.collectors.FirstFitPackingCollector;
+import net.jnellis.binpack.collectors.HarmonicPackingCollector;
+import net.jnellis.binpack.collectors.NextFitPackingCollector;
+import net.jnellis.binpack.collectors.WorstFitPackingCollector;
 import net.jnellis.binpack.packing.*;
 import net.jnellis.binpack.preorder.AsIs;
+import net.jnellis.binpack.preorder.Descending;
+import net.jnellis.binpack.preorder.ParallelDescending;
 import org.openjdk.jmh.annotations.Benchmark;
 
 import java.util.ArrayList;
@@ -39,6 +46,42 @@ public class BinpackBenchmark extends PackState {
     return bins;
   }
 
+  @Benchmark
+  public Collection<LinearBin> testFirstFitCollector() {
+
+    return pieces.stream()
+                 .collect(new FirstFitPackingCollector<>(
+                     LinearBin.newBinSupplier(capacities),
+                     Function.identity()));
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testNextFitCollector() {
+
+    return pieces.stream()
+                 .collect(new NextFitPackingCollector<>(
+                     LinearBin.newBinSupplier(capacities),
+                     Function.identity()));
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testWorstFitCollector() {
+
+    return pieces.stream()
+                 .collect(new WorstFitPackingCollector<>(
+                     LinearBin.newBinSupplier(capacities),
+                     Function.identity()));
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testAlmostWorstFitCollector() {
+
+    return pieces.stream()
+                 .collect(new AlmostWorstFitPackingCollector<>(
+                     LinearBin.newBinSupplier(capacities),
+                     Function.identity()));
+  }
+
 
   @Benchmark
   public List<LinearBin> testBestFit() {
@@ -53,6 +96,24 @@ public class BinpackBenchmark extends PackState {
     return bins;
   }
 
+  @Benchmark
+  public BinAssignment testBestFitArrays() {
+
+    LinearBinPacker binPacker = new LinearBinPacker();
+    binPacker.setPreOrderPolicy(new AsIs<>());
+
+    return binPacker.packAll(pieceArray, capacityArray);
+  }
+
+  @Benchmark
+  public BinStore testBestFitStore() {
+
+    StoredBinPacker binPacker = new StoredBinPacker();
+    binPacker.setPreOrderPolicy(new AsIs<>());
+
+    return binPacker.packAll(pieces, capacities);
+  }
+
   @Benchmark
   public List<LinearBin> testNextFit() {
 
@@ -113,6 +174,20 @@ public class BinpackBenchmark extends PackState {
     return bins;
   }
 
+  @Benchmark
+  public List<LinearBin> testIndexedFirstFit() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new IndexedFirstFit<>())
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
   @Benchmark
   public List<LinearBin> testWorstFit() {
 
@@ -126,4 +201,144 @@ public class BinpackBenchmark extends PackState {
 
     return bins;
   }
+
+  @Benchmark
+  public List<LinearBin> testIndexedBestFit() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new IndexedBestFit<>(Function.<Double>identity()))
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testExactFitFirstFit() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setPackingPolicy(new ExactFit<>(new FirstFit<>()))
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testIndexedBestFitLargePieceFastPath() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setLargePieceFastPath(true)
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new IndexedBestFit<>(Function.<Double>identity()))
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testIndexedWorstFit() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new IndexedWorstFit<>())
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testNextKFit() {
+
+    List<LinearBin> bins = new ArrayList<>();
+    OnlinePacker<Double, Double, LinearBin> packer =
+        new OnlinePacker<>(new LinearBinPacker(), capacities, 0d, bins::add)
+            .setMaxOpenBins(8, OnlinePacker.Eviction.FULLEST);
+    pieces.forEach(packer::offer);
+    packer.flush();
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testHarmonicFit() {
+
+    List<LinearBin> bins = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new HarmonicFit<>(8, CAPACITY))
+        .packAll(
+            pieces,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testHarmonicCollector() {
+
+    return pieces.stream()
+                 .collect(new HarmonicPackingCollector<>(
+                     LinearBin.newBinSupplier(capacities), 8, CAPACITY));
+  }
+
+  @Benchmark
+  public List<LongBin> testBestFitLong() {
+
+    List<LongBin> bins = new LongBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .packAll(
+            longPieces,
+            new ArrayList<>(),
+            longCapacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<LinearBin> testSpliceLongRuns() {
+
+    // runs of about 10 km against the stock lengths
+    List<Double> runs = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      runs.add(10_000d + pieces.get(i));
+    }
+    List<LinearBin> bins = new SpliceableBinPacker()
+        .packAll(
+            runs,
+            new ArrayList<>(),
+            capacities);
+
+    return bins;
+  }
+
+  @Benchmark
+  public List<Double> testDescendingPreOrder() {
+
+    return new Descending<Double>().order(new ArrayList<>(pieces));
+  }
+
+  @Benchmark
+  public List<Double> testParallelDescendingPreOrder() {
+
+    return new ParallelDescending(false).order(pieces);
+  }
+
+  @Benchmark
+  public List<List<Double>> testBestFitItems() {
+
+    return new LinearBinPacker()
+        .packAll(pieces, Double::doubleValue, capacityArray);
+  }
 }
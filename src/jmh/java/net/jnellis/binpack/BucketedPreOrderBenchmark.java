@@ -0,0 +1,97 @@
+/*
+ * BucketedPreOrderBenchmark.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.BestFit;
+import net.jnellis.binpack.packing.FirstFit;
+import net.jnellis.binpack.preorder.BucketedDescending;
+import net.jnellis.binpack.preorder.Descending;
+import net.jnellis.binpack.preorder.PreOrderPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Time and quality of first and best fit from bucketed, approximately
+ * descending, pieces against sorted pieces. Pieces optimally fill {@link
+ * #BINS} bins, the bins counters give the bins used, divide by packs for the
+ * average per pack.
+ */
+public class BucketedPreOrderBenchmark extends PackState {
+
+  private static final int BUCKETS = 32;
+
+  @Benchmark
+  public List<LinearBin> testFirstFitDescending(final BinCount count) {
+
+    return pack(new LinearBinPacker().setPackingPolicy(new FirstFit<>()),
+                new Descending<>(), count);
+  }
+
+  @Benchmark
+  public List<LinearBin> testFirstFitBucketed(final BinCount count) {
+
+    return pack(new LinearBinPacker().setPackingPolicy(new FirstFit<>()),
+                BucketedDescending.forCapacities(BUCKETS, capacities),
+                count);
+  }
+
+  @Benchmark
+  public List<LinearBin> testBestFitDescending(final BinCount count) {
+
+    return pack(new LinearBinPacker().setPackingPolicy(new BestFit<>()),
+                new Descending<>(), count);
+  }
+
+  @Benchmark
+  public List<LinearBin> testBestFitBucketed(final BinCount count) {
+
+    return pack(new LinearBinPacker().setPackingPolicy(new BestFit<>()),
+                BucketedDescending.forCapacities(BUCKETS, capacities),
+                count);
+  }
+
+  private List<LinearBin> pack(
+      final BinPacker<Double, Double, LinearBin> binPacker,
+      final PreOrderPolicy<Double> preOrder,
+      final BinCount count) {
+
+    final List<LinearBin> bins = binPacker
+        .setPreOrderPolicy(preOrder)
+        .packAll(new ArrayList<>(pieces), new ArrayList<>(), capacities);
+    count.bins += bins.size();
+    count.packs++;
+    return bins;
+  }
+
+  /**
+   * Counts the bins packed, reported alongside the time.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class BinCount {
+
+    public long bins;
+
+    public long packs;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+
+      bins = 0;
+      packs = 0;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * CollectorScalingBenchmark.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.collectors.BestFitPackingCollector;
+import net.jnellis.binpack.collectors.ConcurrentBestFitPackingCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel best fit collection with a pool of each number of cores, merging
+ * partial results or sharing one pool of bins.
+ */
+public class CollectorScalingBenchmark extends PackState {
+
+  @Param({"1", "2", "4", "8"})
+  int cores;
+
+  private ForkJoinPool pool;
+
+  @Setup(Level.Trial)
+  public void startPool() {
+
+    pool = new ForkJoinPool(cores);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopPool() {
+
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testParallelBestFitCollector()
+      throws ExecutionException, InterruptedException {
+
+    return pool.submit(
+        () -> pieces.parallelStream()
+                    .collect(BestFitPackingCollector.bestFitPacking(
+                        LinearBin.newBinSupplier(capacities),
+                        Double::doubleValue)))
+               .get();
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testParallelRepackingCollector()
+      throws ExecutionException, InterruptedException {
+
+    return pool.submit(
+        () -> pieces.parallelStream()
+                    .collect(BestFitPackingCollector.parallelBestFitPacking(
+                        LinearBin.newBinSupplier(capacities),
+                        Double::doubleValue)))
+               .get();
+  }
+
+  @Benchmark
+  public Collection<LinearBin> testConcurrentBestFitCollector()
+      throws ExecutionException, InterruptedException {
+
+    return pool.submit(
+        () -> pieces.parallelStream()
+                    .collect(ConcurrentBestFitPackingCollector
+                                 .concurrentBestFitPacking(
+                                     LinearBin.newBinSupplier(capacities),
+                                     Double::doubleValue)))
+               .get();
+  }
+}
@@ -39,6 +39,16 @@ public class PackState {
 
   public List<Double> capacities;
 
+  public double[] pieceArray;
+
+  public double[] capacityArray;
+
+  public FixedPointScale scale = FixedPointScale.of(1_000_000L);
+
+  public List<Long> longPieces;
+
+  public List<Long> longCapacities;
+
   // move this closer to capacity to create more bins
   @Param({"100", "80", "60", "40", "20", "5"})
   int maxPieceSize;
@@ -59,6 +69,11 @@ public class PackState {
 
     Collections.shuffle(pieces, random);
 
+    pieceArray = pieces.stream().mapToDouble(Double::doubleValue).toArray();
+    capacityArray = new double[]{CAPACITY};
+    longPieces = scale.toUnits(pieces);
+    longCapacities = scale.toUnits(capacities);
+
     System.out.println("Working with " + pieces.size() + " pieces that " +
                            "optimally fit into " + BINS + " bins of " +
                            "size " + CAPACITY);
@@ -0,0 +1,59 @@
+/*
+ * PackingArenaBenchmark.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.BestFit;
+import net.jnellis.binpack.preorder.Descending;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repeated packing of the same job with a packer, allocating fresh bins each
+ * time, and with a reset arena. Run with the gc profiler, {@code -prof gc},
+ * and divide gc.alloc.rate.norm by the number of pieces for the bytes
+ * allocated per piece, which for the arena is zero.
+ */
+public class PackingArenaBenchmark extends PackState {
+
+  @Benchmark
+  public List<LinearBin> testBestFitPacker() {
+
+    return new LinearBinPacker()
+        .setPreOrderPolicy(new Descending<>())
+        .setPackingPolicy(new BestFit<>())
+        .packAll(new ArrayList<>(pieces), new ArrayList<>(), capacities);
+  }
+
+  @Benchmark
+  public BinStore testBestFitArena(final Arena arena) {
+
+    arena.arena.reset();
+    return arena.arena.packAll(pieceArray, capacityArray);
+  }
+
+  /**
+   * An arena per thread, reused by every invocation.
+   */
+  @State(Scope.Thread)
+  public static class Arena {
+
+    PackingArena arena;
+
+    @Setup
+    public void setup() {
+
+      arena = new PackingArena(new Descending<>(), new BestFit<>());
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * SharedBinPoolBenchmark.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.FirstFit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Threads packing into one set of bins, lock free or behind one lock.
+ */
+@State(Scope.Benchmark)
+public class SharedBinPoolBenchmark {
+
+  private static final double CAPACITY = 100d;
+
+  private static final int STOCK_BINS = 64;
+
+  private SharedBinPool pool;
+
+  private LinearBinPacker packer;
+
+  private List<LinearBin> bins;
+
+  private final List<Double> capacities = Collections.singletonList(CAPACITY);
+
+  @Setup(Level.Iteration)
+  public void setup() {
+
+    pool = new SharedBinPool(CAPACITY);
+    packer = new LinearBinPacker();
+    packer.setPackingPolicy(new FirstFit<>());
+    bins = new ArrayList<>();
+    for (int i = 0; i < STOCK_BINS; i++) {
+      pool.addExistingBin(CAPACITY);
+      bins.add(new LinearBin(CAPACITY));
+    }
+  }
+
+  private static double piece() {
+
+    return ThreadLocalRandom.current().nextDouble() * 0.01;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public SharedBinPool.SharedBin testSharedPool1() {
+
+    return pool.pack(piece());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public SharedBinPool.SharedBin testSharedPool4() {
+
+    return pool.pack(piece());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public SharedBinPool.SharedBin testSharedPool8() {
+
+    return pool.pack(piece());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public List<LinearBin> testLockedPacker1() {
+
+    return packLocked(piece());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public List<LinearBin> testLockedPacker4() {
+
+    return packLocked(piece());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public List<LinearBin> testLockedPacker8() {
+
+    return packLocked(piece());
+  }
+
+  private List<LinearBin> packLocked(final double piece) {
+
+    synchronized (packer) {
+      return packer.pack(piece, bins, capacities);
+    }
+  }
+}
@@ -0,0 +1,295 @@
+/*
+ * BatchBinPacker.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs many independent packing jobs concurrently and returns their results
+ * in the order the jobs were given, along with how long each took.
+ * <p>
+ * A {@link BinPacker} and its policies hold mutable state and are not thread
+ * safe, so a packer is never used by two jobs at once. Packers are kept in a
+ * pool: a job borrows one, made by the factory when the pool is empty, and
+ * returns it when done, so no more packers are made than jobs ever ran at
+ * once and their scratch state is reused by later jobs, whatever thread
+ * they run on. A job's bins list is packed in place, jobs must not share
+ * bins.
+ * <p>
+ * By default jobs run on a fixed pool of daemon threads, one per processor.
+ * Such an executor is owned by the batch packer and is shut down by {@link
+ * #close}. An executor that is given is not.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+public class BatchBinPacker<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    implements AutoCloseable {
+
+  private final Supplier<? extends BinPacker<P, C, B>> packerFactory;
+
+  /**
+   * Packers not in use by a job.
+   */
+  private final ConcurrentLinkedQueue<BinPacker<P, C, B>> packers =
+      new ConcurrentLinkedQueue<>();
+
+  private final Executor executor;
+
+  private final boolean ownsExecutor;
+
+  /**
+   * Creates a batch packer that runs jobs on a pool of daemon threads, one
+   * per processor.
+   *
+   * @param packerFactory Makes the packers jobs borrow, configured with the
+   *                      policies to pack with.
+   */
+  public BatchBinPacker(
+      final Supplier<? extends BinPacker<P, C, B>> packerFactory) {
+
+    this(packerFactory, newDefaultExecutor(), true);
+  }
+
+  /**
+   * Creates a batch packer that runs jobs on {@code executor}.
+   *
+   * @param packerFactory Makes the packers jobs borrow, configured with the
+   *                      policies to pack with.
+   * @param executor      Runs the jobs.
+   */
+  public BatchBinPacker(
+      final Supplier<? extends BinPacker<P, C, B>> packerFactory,
+      final Executor executor) {
+
+    this(packerFactory, executor, false);
+  }
+
+  private BatchBinPacker(
+      final Supplier<? extends BinPacker<P, C, B>> packerFactory,
+      final Executor executor,
+      final boolean ownsExecutor) {
+
+    this.packerFactory = Objects.requireNonNull(packerFactory);
+    this.executor = Objects.requireNonNull(executor);
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  /**
+   * Makes a fixed pool of daemon threads, one per processor.
+   *
+   * @return the executor.
+   */
+  static ExecutorService newDefaultExecutor() {
+
+    return Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        runnable -> {
+          final Thread thread = new Thread(runnable, "BatchBinPacker");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Packs every job concurrently and waits for them all.
+   *
+   * @param jobs the jobs to pack.
+   * @return the result of each job, in the order of {@code jobs}.
+   */
+  public List<Result<B>> packAll(final Collection<Job<P, C, B>> jobs) {
+
+    final List<CompletableFuture<Result<B>>> futures =
+        new ArrayList<>(jobs.size());
+    for (Job<P, C, B> job : jobs) {
+      final long submitted = System.nanoTime();
+      futures.add(CompletableFuture.supplyAsync(() -> run(job, submitted),
+                                                executor));
+    }
+    final List<Result<B>> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<Result<B>> future : futures) {
+      results.add(future.join());
+    }
+    return results;
+  }
+
+  /**
+   * Packs one job with a packer borrowed from the pool.
+   *
+   * @param job       the job.
+   * @param submitted when the job was submitted, in nanoseconds.
+   * @return the job's result.
+   */
+  private Result<B> run(final Job<P, C, B> job, final long submitted) {
+
+    final long started = System.nanoTime();
+    BinPacker<P, C, B> packer = packers.poll();
+    if (packer == null) {
+      packer = packerFactory.get();
+    }
+    try {
+      final List<B> bins = packer.packAll(job.pieces,
+                                          job.existingBins,
+                                          job.availableCapacities);
+      return new Result<>(bins, null, started - submitted,
+                          System.nanoTime() - started);
+    } catch (RuntimeException | AssertionError e) {
+      return new Result<>(job.existingBins, e, started - submitted,
+                          System.nanoTime() - started);
+    } finally {
+      packers.offer(packer);
+    }
+  }
+
+  /**
+   * Shuts down the executor if the batch packer made it.
+   */
+  @Override
+  public void close() {
+
+    if (ownsExecutor) {
+      ((ExecutorService) executor).shutdown();
+    }
+  }
+
+  /**
+   * The arguments of one call to {@link BinPacker#packAll}.
+   *
+   * @param <P> piece type
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  public static final class Job<
+      P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C>> {
+
+    private final List<P> pieces;
+
+    private final List<B> existingBins;
+
+    private final List<C> availableCapacities;
+
+    /**
+     * Creates a job.
+     *
+     * @param pieces              List of pieces to be packed.
+     * @param existingBins        Bins to pack first, packed in place.
+     * @param availableCapacities Capacities for new bins.
+     */
+    public Job(final List<P> pieces,
+               final List<B> existingBins,
+               final List<C> availableCapacities) {
+
+      this.pieces = Objects.requireNonNull(pieces);
+      this.existingBins = Objects.requireNonNull(existingBins);
+      this.availableCapacities = Objects.requireNonNull(availableCapacities);
+    }
+  }
+
+  /**
+   * The bins of a job, or why it failed, and how long it took.
+   *
+   * @param <B> bin type
+   */
+  public static final class Result<B> {
+
+    private final List<B> bins;
+
+    private final Throwable failure;
+
+    private final long queuedNanos;
+
+    private final long packingNanos;
+
+    Result(final List<B> bins,
+           final Throwable failure,
+           final long queuedNanos,
+           final long packingNanos) {
+
+      this.bins = bins;
+      this.failure = failure;
+      this.queuedNanos = queuedNanos;
+      this.packingNanos = packingNanos;
+    }
+
+    /**
+     * Returns the job's bins, partly packed if the job failed.
+     *
+     * @return the bins.
+     */
+    public List<B> getBins() {
+
+      return bins;
+    }
+
+    /**
+     * Returns whether the job failed.
+     *
+     * @return true if packing threw.
+     */
+    public boolean isFailed() {
+
+      return failure != null;
+    }
+
+    /**
+     * Returns what the job threw.
+     *
+     * @return the failure or null if the job succeeded.
+     */
+    public Throwable getFailure() {
+
+      return failure;
+    }
+
+    /**
+     * Returns how long the job waited to start.
+     *
+     * @return nanoseconds from submission to start.
+     */
+    public long getQueuedNanos() {
+
+      return queuedNanos;
+    }
+
+    /**
+     * Returns how long the job took to pack.
+     *
+     * @return nanoseconds spent packing.
+     */
+    public long getPackingNanos() {
+
+      return packingNanos;
+    }
+
+    /**
+     * Returns the job's latency, waiting and packing.
+     *
+     * @return nanoseconds from submission to completion.
+     */
+    public long getLatencyNanos() {
+
+      return queuedNanos + packingNanos;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * BinAssignment.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of packing primitive pieces: which bin each piece went into and
+ * the total and chosen capacity of each bin. Bins are numbered in the order
+ * they were created.
+ * <p>
+ * The array getters return the arrays themselves, not copies. Totals and
+ * capacities of a {@link LongBinPacker} are its units, exact as doubles up
+ * to 2<sup>53</sup>.
+ *
+ * @see LinearBinPacker#packAll(double[], double[])
+ * @see LongBinPacker#packAll(long[], long[])
+ */
+public final class BinAssignment {
+
+  private final int[] bins;
+
+  private final double[] totals;
+
+  private final double[] capacities;
+
+  /**
+   * Creates an assignment from arrays it takes ownership of.
+   *
+   * @param bins       bin number of each piece, by piece index.
+   * @param totals     total of each bin.
+   * @param capacities chosen capacity of each bin.
+   */
+  BinAssignment(final int[] bins,
+                final double[] totals,
+                final double[] capacities) {
+
+    this.bins = bins;
+    this.totals = totals;
+    this.capacities = capacities;
+  }
+
+  /**
+   * Returns the number of pieces packed.
+   *
+   * @return number of pieces.
+   */
+  public int getPieceCount() {
+
+    return bins.length;
+  }
+
+  /**
+   * Returns the number of bins used.
+   *
+   * @return number of bins.
+   */
+  public int getBinCount() {
+
+    return totals.length;
+  }
+
+  /**
+   * Returns the bin the piece at {@code piece} was packed into.
+   *
+   * @param piece index of the piece in the packed array.
+   * @return the bin number.
+   */
+  public int getBin(final int piece) {
+
+    return bins[piece];
+  }
+
+  /**
+   * Returns the total of the pieces in a bin.
+   *
+   * @param bin the bin number.
+   * @return the bin's total.
+   */
+  public double getTotal(final int bin) {
+
+    return totals[bin];
+  }
+
+  /**
+   * Returns the smallest capacity of a bin that holds its total.
+   *
+   * @param bin the bin number.
+   * @return the bin's chosen capacity.
+   * @see CapacitySupport#getSmallestCapacityNeeded()
+   */
+  public double getCapacity(final int bin) {
+
+    return capacities[bin];
+  }
+
+  /**
+   * Returns the bin number of every piece, by piece index.
+   *
+   * @return bin numbers, not a copy.
+   */
+  public int[] getBins() {
+
+    return bins;
+  }
+
+  /**
+   * Returns the total of every bin, by bin number.
+   *
+   * @return bin totals, not a copy.
+   */
+  public double[] getTotals() {
+
+    return totals;
+  }
+
+  /**
+   * Returns the chosen capacity of every bin, by bin number.
+   *
+   * @return bin capacities, not a copy.
+   */
+  public double[] getCapacities() {
+
+    return capacities;
+  }
+
+  /**
+   * Groups the items the pieces were sized from by bin.
+   *
+   * @param items the items, by piece index.
+   * @param <T>   item type
+   * @return the items of each bin, by bin number, in the order of {@code
+   * items}.
+   * @exception IllegalArgumentException if there is not an item per piece.
+   */
+  public <T> List<List<T>> groupByBin(final List<T> items) {
+
+    if (items.size() != bins.length) {
+      throw new IllegalArgumentException(
+          "Expected " + bins.length + " items: " + items.size());
+    }
+    final List<List<T>> groups = new ArrayList<>(totals.length);
+    for (int bin = 0; bin < totals.length; bin++) {
+      groups.add(new ArrayList<>());
+    }
+    int piece = 0;
+    for (T item : items) {
+      groups.get(bins[piece++]).add(item);
+    }
+    return groups;
+  }
+}
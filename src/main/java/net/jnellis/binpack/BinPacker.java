@@ -10,6 +10,7 @@ package net.jnellis.binpack;
 
 import net.jnellis.binpack.packing.BestFit;
 import net.jnellis.binpack.packing.PackingPolicy;
+import net.jnellis.binpack.packing.PackingSession;
 import net.jnellis.binpack.preorder.Ascending;
 import net.jnellis.binpack.preorder.Descending;
 import net.jnellis.binpack.preorder.PreOrderPolicy;
@@ -193,7 +194,8 @@ abstract public class BinPacker<
    * Attempts to store {@code pieces} into bins, starting with {@code
    * existingBins}. When a new bin is required, one is copied from the {@code
    * availableCapacities} set according to the {@code
-   * existingBinPreOrderPolicy}.
+   * existingBinPreOrderPolicy}. All pieces are packed within one {@link
+   * PackingSession} of the packing policy.
    *
    * @param pieces              List of pieces to be packed.
    * @param existingBins        The initial set of bins will be made with these
@@ -206,31 +208,60 @@ abstract public class BinPacker<
                          final List<B> existingBins,
                          final List<C> availableCapacities) {
 
-    getPreOrderPolicy()
-        .order(pieces)
-        .forEach(
-            getPackFunction( //returns a function that packs a piece.
-                             // order the existing bins by max remaining
-                             // capacity
-                             existingBinPreOrderPolicy
-                                 .order(existingBins),
-                             // choose the order capacities are tried.
-                             availableCapacitiesPreOrderPolicy
-                                 .order(availableCapacities))
-        );
+    // order the existing bins by max remaining capacity
+    final List<B> bins = existingBinPreOrderPolicy.order(existingBins);
+    // choose the order capacities are tried.
+    final List<C> capacities =
+        availableCapacitiesPreOrderPolicy.order(availableCapacities);
+    final List<P> spliced = splice(pieces, bins, capacities);
+    final PackingSession<P, C, B> session = packingPolicy.begin(bins);
+    try {
+      getPreOrderPolicy()
+          .order(spliced)
+          .forEach(getPackFunction(session, bins, capacities));
+    } finally {
+      session.end();
+    }
     return existingBins;
   }
 
   /**
    * Helper function for packAll.
+   * @param session  the packing session choosing bins
    * @param bins  bins to be packed
    * @param capacities  capacities each bin could have
    * @return  Consumer of pieces 
    */
-  private Consumer<P> getPackFunction(final List<B> bins,
+  private Consumer<P> getPackFunction(final PackingSession<P, C, B> session,
+                                      final List<B> bins,
                                       final List<C> capacities) {
 
-    return (piece) -> pack(piece, bins, capacities);
+    return (piece) -> pack(piece, session, bins, capacities);
+  }
+
+  /**
+   * Packs one piece through a session, notifying it of the new bin, if one
+   * was needed, and of the piece added.
+   *
+   * @param piece      The piece to pack.
+   * @param session    The session choosing bins.
+   * @param bins       The session's bins.
+   * @param capacities Available bin sizes that we can create.
+   */
+  private void pack(final P piece,
+                    final PackingSession<P, C, B> session,
+                    final List<B> bins,
+                    final List<C> capacities) {
+
+    final Supplier<B> newBin = () -> {
+      final B bin = addNewBin(piece, bins, capacities);
+      session.binAdded(bin);
+      return bin;
+    };
+
+    final B bin = session.chooseBin(piece).orElseGet(newBin);
+    bin.add(piece);
+    session.pieceAdded(bin, piece);
   }
 
   /**
@@ -258,6 +289,42 @@ abstract public class BinPacker<
     return existingBins;
   }
 
+  /**
+   * Prepares pieces for packing before they are pre-ordered, such as breaking
+   * up pieces too big for a new bin. By default the pieces are returned as
+   * they are.
+   *
+   * @param pieces              The pieces to be packed.
+   * @param availableCapacities Capacities for new bins.
+   * @return the pieces to pack.
+   */
+  protected List<P> splice(final List<P> pieces,
+                           final List<C> availableCapacities) {
+
+    return pieces;
+  }
+
+  /**
+   * Prepares pieces for {@link #packAll}, after the bins are ordered and
+   * before the packing session begins. Besides splicing, this may pack
+   * pieces that could only go in a bin of their own into new bins, adding
+   * them to {@code bins}, so that only the pieces returned go through the
+   * packing policy. By default the pieces are spliced by {@link
+   * #splice(List, List)}.
+   *
+   * @param pieces              The pieces to be packed.
+   * @param bins                The ordered existing bins.
+   * @param availableCapacities The ordered capacities for new bins.
+   * @return the pieces to pre-order and pack, a list the pre-order policy
+   * may sort in place.
+   */
+  protected List<P> splice(final List<P> pieces,
+                           final List<B> bins,
+                           final List<C> availableCapacities) {
+
+    return splice(pieces, availableCapacities);
+  }
+
   /**
    * Add a new bin to the list of existing bins. New bin should be able to take
    * on available capacities. Implementations must not add piece to new bin, the
@@ -0,0 +1,528 @@
+/*
+ * BinStore.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Linear bins kept in parallel primitive arrays rather than one object per
+ * bin. Each bin is a number with a total, a maximum capacity, a capacity
+ * profile id, a piece count and an existing flag; capacity profiles are
+ * shared by every new bin created with the same capacities; an existing bin
+ * keeps its single capacity and has no profile, so bins such as offcuts that
+ * differ from job to job don't add profiles; pieces are kept in the order
+ * they were added along with the bin they went into.
+ * <p>
+ * Bins are also available as {@link StoredBin} views, so the store can be
+ * packed by a {@link StoredBinPacker} with any of the packing policies. A
+ * view is made when a bin is first asked for and then kept, since policies
+ * tell bins apart by identity; the array of views is only grown as far as
+ * the bins asked for, so a store used through its primitive methods, such as
+ * {@link #canFit} and {@link #firstFit}, which work on the arrays directly,
+ * makes no views at all.
+ * <p>
+ * Piece ranges, the pieces of each bin laid out bin after bin, are built on
+ * demand and rebuilt only after more pieces are added.
+ * <p>
+ * A store is not thread safe.
+ */
+public final class BinStore {
+
+  /**
+   * The profile id of an existing bin.
+   */
+  public static final int NO_PROFILE = -1;
+
+  private static final int INITIAL_SIZE = 16;
+
+  /*
+   * Per bin.
+   */
+  private double[] totals = new double[INITIAL_SIZE];
+
+  private double[] maxCapacities = new double[INITIAL_SIZE];
+
+  private int[] profiles = new int[INITIAL_SIZE];
+
+  private int[] pieceCounts = new int[INITIAL_SIZE];
+
+  private boolean[] existing = new boolean[INITIAL_SIZE];
+
+  private StoredBin[] views = new StoredBin[0];
+
+  private int binCount;
+
+  /*
+   * Per capacity profile.
+   */
+  private CapacityProfile[] profileTable = new CapacityProfile[INITIAL_SIZE];
+
+  private double[] profileMaxCapacities = new double[INITIAL_SIZE];
+
+  private int profileCount;
+
+  /*
+   * Per piece, in the order added.
+   */
+  private double[] pieces = new double[INITIAL_SIZE];
+
+  private int[] pieceBins = new int[INITIAL_SIZE];
+
+  private int pieceCount;
+
+  /*
+   * Piece ranges: piece indexes grouped by bin, bin b's pieces are at
+   * [rangeStarts[b], rangeStarts[b + 1]).
+   */
+  private int[] rangeStarts;
+
+  private int[] rangePieces;
+
+  private final List<StoredBin> binList = new BinList();
+
+  /**
+   * Returns the id of the profile with these capacities, adding a profile if
+   * the store has none.
+   *
+   * @param capacities The capacities a bin could have.
+   * @return the profile id.
+   * @exception IllegalStateException if there are no capacities.
+   */
+  public int profile(final double... capacities) {
+
+    for (int id = 0; id < profileCount; id++) {
+      if (profileTable[id].matches(capacities)) {
+        return id;
+      }
+    }
+    return addProfile(CapacityProfile.of(capacities));
+  }
+
+  /**
+   * Returns the id of the profile with these capacities, adding a profile if
+   * the store has none.
+   *
+   * @param capacities The capacities a bin could have.
+   * @return the profile id.
+   * @exception IllegalStateException if there are no capacities.
+   */
+  public int profile(final List<Double> capacities) {
+
+    for (int id = 0; id < profileCount; id++) {
+      if (profileTable[id].matches(capacities)) {
+        return id;
+      }
+    }
+    return addProfile(CapacityProfile.of(capacities));
+  }
+
+  /**
+   * Returns the id of a profile, adding it if the store has no profile with
+   * its capacities.
+   *
+   * @param profile the capacity profile.
+   * @return the profile id.
+   */
+  public int profile(final CapacityProfile profile) {
+
+    for (int id = 0; id < profileCount; id++) {
+      if (profileTable[id].equals(profile)) {
+        return id;
+      }
+    }
+    return addProfile(profile);
+  }
+
+  private int addProfile(final CapacityProfile profile) {
+
+    if (profileCount == profileTable.length) {
+      profileTable = Arrays.copyOf(profileTable, profileCount << 1);
+      profileMaxCapacities =
+          Arrays.copyOf(profileMaxCapacities, profileCount << 1);
+    }
+    profileTable[profileCount] = profile;
+    profileMaxCapacities[profileCount] = profile.getMaxCapacity();
+    return profileCount++;
+  }
+
+  /**
+   * Returns a capacity profile.
+   *
+   * @param profile the profile id.
+   * @return the capacity profile.
+   */
+  public CapacityProfile getCapacityProfile(final int profile) {
+
+    return profileTable[profile];
+  }
+
+  /**
+   * Returns the largest capacity of a profile.
+   *
+   * @param profile the profile id.
+   * @return the profile's maximum capacity.
+   */
+  public double getMaxCapacity(final int profile) {
+
+    return profileMaxCapacities[profile];
+  }
+
+  /**
+   * Adds an empty bin that could have any capacity of a profile.
+   *
+   * @param profile the profile id.
+   * @return the new bin number.
+   */
+  public int addBin(final int profile) {
+
+    if (profile < 0 || profile >= profileCount) {
+      throw new IllegalArgumentException("No such profile: " + profile);
+    }
+    return newBin(profile, profileMaxCapacities[profile], false);
+  }
+
+  /**
+   * Adds an empty bin that represents an existing bin. An existing bin has a
+   * single capacity and no profile.
+   *
+   * @param capacity The single capacity of this bin.
+   * @return the new bin number.
+   */
+  public int addExistingBin(final double capacity) {
+
+    return newBin(NO_PROFILE, capacity, true);
+  }
+
+  private int newBin(final int profile,
+                     final double maxCapacity,
+                     final boolean isExisting) {
+
+    if (binCount == totals.length) {
+      final int length = binCount << 1;
+      totals = Arrays.copyOf(totals, length);
+      maxCapacities = Arrays.copyOf(maxCapacities, length);
+      profiles = Arrays.copyOf(profiles, length);
+      pieceCounts = Arrays.copyOf(pieceCounts, length);
+      existing = Arrays.copyOf(existing, length);
+    }
+    profiles[binCount] = profile;
+    maxCapacities[binCount] = maxCapacity;
+    existing[binCount] = isExisting;
+    rangeStarts = null;
+    return binCount++;
+  }
+
+  /**
+   * Removes every bin and piece, keeping the capacity profiles, the bin
+   * views and the memory of the arrays for the next bins. Views of removed
+   * bins see the bins later added with their numbers. Existing bins have no
+   * profiles, so nothing of theirs is kept.
+   */
+  public void clear() {
+
+    Arrays.fill(totals, 0, binCount, 0.0);
+    Arrays.fill(pieceCounts, 0, binCount, 0);
+    binCount = 0;
+    pieceCount = 0;
+    rangeStarts = null;
+    rangePieces = null;
+  }
+
+  /**
+   * Returns the number of bins.
+   *
+   * @return number of bins.
+   */
+  public int size() {
+
+    return binCount;
+  }
+
+  /**
+   * Returns the number of pieces in all bins.
+   *
+   * @return number of pieces.
+   */
+  public int getPieceCount() {
+
+    return pieceCount;
+  }
+
+  /**
+   * Determines if the piece fits in any of the bin's capacities.
+   *
+   * @param bin   the bin number.
+   * @param piece the piece to fit.
+   * @return true if the piece will fit.
+   */
+  public boolean canFit(final int bin, final double piece) {
+
+    return maxCapacities[bin] >= totals[bin] + piece;
+  }
+
+  /**
+   * Adds a piece to a bin if it fits.
+   *
+   * @param bin   the bin number.
+   * @param piece the piece to add.
+   * @return true if the piece was added.
+   */
+  public boolean add(final int bin, final double piece) {
+
+    if (piece < 0.0) {
+      throw new AssertionError("Negative value pieces not allowed: " + piece);
+    }
+    if (!canFit(bin, piece)) {
+      return false;
+    }
+    if (pieceCount == pieces.length) {
+      pieces = Arrays.copyOf(pieces, pieceCount << 1);
+      pieceBins = Arrays.copyOf(pieceBins, pieceCount << 1);
+    }
+    pieces[pieceCount] = piece;
+    pieceBins[pieceCount++] = bin;
+    pieceCounts[bin]++;
+    totals[bin] += piece;
+    rangeStarts = null;
+    return true;
+  }
+
+  /**
+   * Returns the total of the pieces in a bin.
+   *
+   * @param bin the bin number.
+   * @return the bin's total.
+   */
+  public double getTotal(final int bin) {
+
+    return totals[bin];
+  }
+
+  /**
+   * Computes the remaining capacity of a bin based on the maximum of its
+   * potential capacities.
+   *
+   * @param bin the bin number.
+   * @return The maximum potential remaining capacity.
+   */
+  public double remaining(final int bin) {
+
+    return maxCapacities[bin] - totals[bin];
+  }
+
+  /**
+   * Returns the capacity profile id of a bin.
+   *
+   * @param bin the bin number.
+   * @return the profile id, or {@link #NO_PROFILE} for an existing bin.
+   */
+  public int getProfile(final int bin) {
+
+    return profiles[bin];
+  }
+
+  /**
+   * Returns whether a bin is an existing bin.
+   *
+   * @param bin the bin number.
+   * @return true if this is an existing bin.
+   */
+  public boolean isExisting(final int bin) {
+
+    return existing[bin];
+  }
+
+  /**
+   * Returns the number of pieces in a bin.
+   *
+   * @param bin the bin number.
+   * @return number of pieces in the bin.
+   */
+  public int getPieceCount(final int bin) {
+
+    return pieceCounts[bin];
+  }
+
+  /**
+   * Returns a piece of a bin.
+   *
+   * @param bin   the bin number.
+   * @param index index of the piece within the bin, in the order added.
+   * @return the piece.
+   */
+  public double getPiece(final int bin, final int index) {
+
+    if (index < 0 || index >= pieceCounts[bin]) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+    buildRanges();
+    return pieces[rangePieces[rangeStarts[bin] + index]];
+  }
+
+  /**
+   * Returns the capacities of a bin's profile.
+   *
+   * @param bin the bin number.
+   * @return a copy of the capacities.
+   */
+  public double[] getCapacities(final int bin) {
+
+    if (profiles[bin] == NO_PROFILE) {
+      return new double[]{maxCapacities[bin]};
+    }
+    final CapacityProfile profile = profileTable[profiles[bin]];
+    final double[] capacities = new double[profile.size()];
+    for (int i = 0; i < capacities.length; i++) {
+      capacities[i] = profile.getCapacity(i);
+    }
+    return capacities;
+  }
+
+  /**
+   * Finds the minimal capacity needed given a bin's current total.
+   *
+   * @param bin the bin number.
+   * @return The minimal capacity of the bin's capacities that is still bigger
+   * than the total packed.
+   */
+  public double getSmallestCapacityNeeded(final int bin) {
+
+    if (profiles[bin] == NO_PROFILE) {
+      return maxCapacities[bin];
+    }
+    return profileTable[profiles[bin]].smallestCapacityNeeded(totals[bin]);
+  }
+
+  /**
+   * Returns the capacities of a bin as a list.
+   *
+   * @param bin the bin number.
+   * @return a read only list of the capacities, shared by the bins of a
+   * profile.
+   */
+  public List<Double> getCapacityList(final int bin) {
+
+    if (profiles[bin] == NO_PROFILE) {
+      return Collections.singletonList(maxCapacities[bin]);
+    }
+    return profileTable[profiles[bin]].getCapacities();
+  }
+
+  /**
+   * Scans the bins in order for the first one that fits a piece.
+   *
+   * @param piece the piece to fit.
+   * @return the bin number or -1 if no bin fits.
+   */
+  public int firstFit(final double piece) {
+
+    for (int bin = 0; bin < binCount; bin++) {
+      if (canFit(bin, piece)) {
+        return bin;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Scans the bins for the fullest one that fits a piece, the first of
+   * equally full bins.
+   *
+   * @param piece the piece to fit.
+   * @return the bin number or -1 if no bin fits.
+   */
+  public int bestFit(final double piece) {
+
+    int best = -1;
+    double least = Double.POSITIVE_INFINITY;
+    for (int bin = 0; bin < binCount; bin++) {
+      final double remaining = remaining(bin);
+      if (remaining < least && canFit(bin, piece)) {
+        best = bin;
+        least = remaining;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the view of a bin, making it on first use.
+   *
+   * @param bin the bin number.
+   * @return the bin's view.
+   */
+  public StoredBin getBin(final int bin) {
+
+    if (bin < 0 || bin >= binCount) {
+      throw new IndexOutOfBoundsException("Bin: " + bin);
+    }
+    if (bin >= views.length) {
+      views = Arrays.copyOf(views, Math.max(bin + 1, totals.length));
+    }
+    StoredBin view = views[bin];
+    if (view == null) {
+      view = new StoredBin(this, bin);
+      views[bin] = view;
+    }
+    return view;
+  }
+
+  /**
+   * Returns a read only list view of the bins, in bin number order, that
+   * sees bins added later.
+   *
+   * @return the bins.
+   */
+  public List<StoredBin> getBins() {
+
+    return binList;
+  }
+
+  /**
+   * Groups piece indexes by bin with a counting sort, keeping the order the
+   * pieces were added within each bin.
+   */
+  private void buildRanges() {
+
+    if (rangeStarts != null) {
+      return;
+    }
+    final int[] starts = new int[binCount + 1];
+    for (int bin = 0; bin < binCount; bin++) {
+      starts[bin + 1] = starts[bin] + pieceCounts[bin];
+    }
+    final int[] next = Arrays.copyOf(starts, binCount);
+    final int[] grouped = new int[pieceCount];
+    for (int i = 0; i < pieceCount; i++) {
+      grouped[next[pieceBins[i]]++] = i;
+    }
+    rangePieces = grouped;
+    rangeStarts = starts;
+  }
+
+  private final class BinList extends AbstractList<StoredBin>
+      implements RandomAccess {
+
+    @Override
+    public StoredBin get(final int index) {
+
+      return getBin(index);
+    }
+
+    @Override
+    public int size() {
+
+      return binCount;
+    }
+  }
+}
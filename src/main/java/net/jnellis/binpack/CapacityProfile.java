@@ -0,0 +1,248 @@
+/*
+ * CapacityProfile.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable set of capacities that linear bins could have, shared by every
+ * bin created with them. The capacities are kept in the order given and
+ * sorted, with the largest and smallest precomputed, so fitting a piece is a
+ * single comparison and finding the smallest capacity needed is a binary
+ * search.
+ */
+public final class CapacityProfile {
+
+  private final double[] capacities;
+
+  private final double[] sorted;
+
+  private final List<Double> capacityList = new CapacityList();
+
+  /**
+   * Creates a profile from capacities it takes ownership of.
+   *
+   * @param capacities the capacities in the order given.
+   */
+  private CapacityProfile(final double[] capacities) {
+
+    if (capacities.length == 0) {
+      throw CapacitySupport.mustBeAtLeastOneCapacityException();
+    }
+    this.capacities = capacities;
+    this.sorted = capacities.clone();
+    Arrays.sort(sorted);
+  }
+
+  /**
+   * Creates a profile of the given capacities.
+   *
+   * @param capacities The capacities a bin could have.
+   * @return the profile.
+   * @exception IllegalStateException if there are no capacities.
+   */
+  public static CapacityProfile of(final double... capacities) {
+
+    return new CapacityProfile(capacities.clone());
+  }
+
+  /**
+   * Creates a profile of the given capacities.
+   *
+   * @param capacities The capacities a bin could have.
+   * @return the profile.
+   * @exception IllegalStateException if there are no capacities.
+   */
+  public static CapacityProfile of(final List<Double> capacities) {
+
+    final double[] array = new double[capacities.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = capacities.get(i);
+    }
+    return new CapacityProfile(array);
+  }
+
+  /**
+   * Returns {@code profile} if it has the same capacities, in the same order,
+   * as {@code capacities}, otherwise a new profile of {@code capacities}.
+   * Used to keep sharing one profile while the capacities don't change.
+   *
+   * @param profile    a profile to reuse, may be null.
+   * @param capacities The capacities a bin could have.
+   * @return a profile of {@code capacities}.
+   */
+  public static CapacityProfile reuse(final CapacityProfile profile,
+                                      final List<Double> capacities) {
+
+    return profile != null && profile.matches(capacities)
+           ? profile
+           : of(capacities);
+  }
+
+  /**
+   * Determines if this profile has the same capacities, in the same order, as
+   * {@code capacities} without copying them.
+   *
+   * @param capacities capacities to compare.
+   * @return true if they are the same.
+   */
+  public boolean matches(final List<Double> capacities) {
+
+    if (capacities.size() != this.capacities.length) {
+      return false;
+    }
+    for (int i = 0; i < this.capacities.length; i++) {
+      final Double capacity = capacities.get(i);
+      if (capacity == null ||
+          Double.compare(capacity, this.capacities[i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines if this profile has the same capacities, in the same order, as
+   * {@code capacities}.
+   *
+   * @param capacities capacities to compare.
+   * @return true if they are the same.
+   */
+  public boolean matches(final double... capacities) {
+
+    return Arrays.equals(this.capacities, capacities);
+  }
+
+  /**
+   * Returns the largest capacity.
+   *
+   * @return the maximum capacity.
+   */
+  public double getMaxCapacity() {
+
+    return sorted[sorted.length - 1];
+  }
+
+  /**
+   * Returns the smallest capacity.
+   *
+   * @return the minimum capacity.
+   */
+  public double getMinCapacity() {
+
+    return sorted[0];
+  }
+
+  /**
+   * Determines if a piece fits a bin of this profile holding {@code total},
+   * which is when it fits the largest capacity.
+   *
+   * @param total the bin's total.
+   * @param piece Piece to be fitted.
+   * @return true if the piece can be fitted.
+   */
+  public boolean canFit(final double total, final double piece) {
+
+    return getMaxCapacity() >= total + piece;
+  }
+
+  /**
+   * Finds the minimal capacity needed for a bin holding {@code total}.
+   *
+   * @param total the bin's total.
+   * @return The smallest capacity that is at least {@code total}.
+   * @exception IllegalStateException if no capacity holds the total.
+   */
+  public double smallestCapacityNeeded(final double total) {
+
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sorted[mid] < total) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    if (low == sorted.length) {
+      throw CapacitySupport.mustBeAtLeastOneCapacityException();
+    }
+    return sorted[low];
+  }
+
+  /**
+   * Returns the capacities in the order given.
+   *
+   * @return an unmodifiable list of capacities.
+   */
+  public List<Double> getCapacities() {
+
+    return capacityList;
+  }
+
+  /**
+   * Returns the number of capacities.
+   *
+   * @return number of capacities.
+   */
+  public int size() {
+
+    return capacities.length;
+  }
+
+  /**
+   * Returns a capacity.
+   *
+   * @param index index of the capacity in the order given.
+   * @return the capacity.
+   */
+  public double getCapacity(final int index) {
+
+    return capacities[index];
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+
+    return this == o || o instanceof CapacityProfile &&
+        Arrays.equals(capacities, ((CapacityProfile) o).capacities);
+  }
+
+  @Override
+  public int hashCode() {
+
+    return Arrays.hashCode(capacities);
+  }
+
+  @Override
+  public String toString() {
+
+    return "CapacityProfile" + capacityList;
+  }
+
+  private final class CapacityList extends AbstractList<Double>
+      implements RandomAccess {
+
+    @Override
+    public Double get(final int index) {
+
+      return capacities[index];
+    }
+
+    @Override
+    public int size() {
+
+      return capacities.length;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * FixedPointScale.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts between double lengths and whole {@code long} units of a fixed
+ * size, such as hundredths of a millimeter, for packing with {@link LongBin}
+ * and {@link LongBinPacker}. Lengths are rounded to the nearest unit, after
+ * which sums and comparisons are exact.
+ */
+public final class FixedPointScale {
+
+  private final long unitsPerOne;
+
+  private final double maxLength;
+
+  private FixedPointScale(final long unitsPerOne) {
+
+    if (unitsPerOne < 1) {
+      throw new IllegalArgumentException(
+          "Units per one must be positive: " + unitsPerOne);
+    }
+    this.unitsPerOne = unitsPerOne;
+    this.maxLength = (double) Long.MAX_VALUE / unitsPerOne;
+  }
+
+  /**
+   * Creates a scale with {@code unitsPerOne} units to a length of 1.0, e.g.
+   * 100 for hundredths.
+   *
+   * @param unitsPerOne units in a length of one.
+   * @return the scale.
+   * @exception IllegalArgumentException if {@code unitsPerOne} is not
+   *                                     positive.
+   */
+  public static FixedPointScale of(final long unitsPerOne) {
+
+    return new FixedPointScale(unitsPerOne);
+  }
+
+  /**
+   * Returns the number of units in a length of 1.0.
+   *
+   * @return units per one.
+   */
+  public long getUnitsPerOne() {
+
+    return unitsPerOne;
+  }
+
+  /**
+   * Converts a length to the nearest whole number of units.
+   *
+   * @param length a length.
+   * @return the length in units.
+   * @exception ArithmeticException if the length is too big for a long.
+   */
+  public long toUnits(final double length) {
+
+    if (!(Math.abs(length) < maxLength)) {
+      throw new ArithmeticException("Length out of range: " + length);
+    }
+    return Math.round(length * unitsPerOne);
+  }
+
+  /**
+   * Converts lengths to units.
+   *
+   * @param lengths lengths.
+   * @return the lengths in units.
+   * @exception ArithmeticException if a length is too big for a long.
+   */
+  public List<Long> toUnits(final List<Double> lengths) {
+
+    final List<Long> units = new ArrayList<>(lengths.size());
+    for (Double length : lengths) {
+      units.add(toUnits(length));
+    }
+    return units;
+  }
+
+  /**
+   * Converts lengths to units.
+   *
+   * @param lengths lengths.
+   * @return the lengths in units.
+   * @exception ArithmeticException if a length is too big for a long.
+   */
+  public long[] toUnits(final double[] lengths) {
+
+    final long[] units = new long[lengths.length];
+    for (int i = 0; i < units.length; i++) {
+      units[i] = toUnits(lengths[i]);
+    }
+    return units;
+  }
+
+  /**
+   * Converts units to a length.
+   *
+   * @param units a number of units.
+   * @return the length.
+   */
+  public double toDouble(final long units) {
+
+    return (double) units / unitsPerOne;
+  }
+
+  /**
+   * Converts units to lengths.
+   *
+   * @param units numbers of units.
+   * @return the lengths.
+   */
+  public List<Double> toDoubles(final List<Long> units) {
+
+    final List<Double> lengths = new ArrayList<>(units.size());
+    for (Long unit : units) {
+      lengths.add(toDouble(unit));
+    }
+    return lengths;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+
+    return this == o || o instanceof FixedPointScale &&
+        unitsPerOne == ((FixedPointScale) o).unitsPerOne;
+  }
+
+  @Override
+  public int hashCode() {
+
+    return Long.hashCode(unitsPerOne);
+  }
+
+  @Override
+  public String toString() {
+
+    return "FixedPointScale{unitsPerOne=" + unitsPerOne + '}';
+  }
+}
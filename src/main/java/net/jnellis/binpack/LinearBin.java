@@ -13,23 +13,35 @@ import java.util.function.Supplier;
 
 
 /**
- * A packing bin for storing Double values.
+ * A packing bin for storing Double values. Pieces and capacities are kept as
+ * primitive doubles so that adding and fitting pieces neither boxes nor
+ * streams; {@link #add(double)}, {@link #canFit(double)} and {@link
+ * #remaining()} are the primitive forms of the {@link Bin} methods.
  *
  * @author Joe Nellis
  */
 public class LinearBin implements Bin<Double, Double> {
 
-  private final List<Double> pieces = new ArrayList<>();
+  private static final int INITIAL_PIECES = 4;
 
-  private final List<Double> capacities;
+  private static final double[] NO_PIECES = {};
 
-  private final double maxCapacity;
+  private double[] pieces;
+
+  private int pieceCount = 0;
+
+  private final CapacityProfile profile;
 
   /**
    * Flag indicating whether this bin was an existing bin.
    */
   private final boolean existing;
 
+  /**
+   * Flag indicating whether this bin records its pieces or only their total.
+   */
+  private final boolean keepingPieces;
+
   private double total = 0.0;
 
   /**
@@ -39,12 +51,18 @@ public class LinearBin implements Bin<Double, Double> {
    */
   public LinearBin(final List<Double> capacities) {
 
-    this.capacities = new ArrayList<>(Objects.requireNonNull(capacities));
-    if (this.capacities.isEmpty()) {
-      throw CapacitySupport.mustBeAtLeastOneCapacityException();
-    }
-    this.existing = false;
-    this.maxCapacity = Collections.max(this.capacities);
+    this(CapacityProfile.of(Objects.requireNonNull(capacities)), false, true);
+  }
+
+  /**
+   * Create a new bin that shares a capacity profile, it will not be marked as
+   * an existing bin.
+   *
+   * @param profile The capacities that this bin could have.
+   */
+  public LinearBin(final CapacityProfile profile) {
+
+    this(Objects.requireNonNull(profile), false, true);
   }
 
   /**
@@ -55,26 +73,45 @@ public class LinearBin implements Bin<Double, Double> {
    */
   public LinearBin(final Double capacity) {
 
-    this.capacities = Collections.singletonList(capacity);
-    this.existing = true;
-    this.maxCapacity = capacity;
+    this(CapacityProfile.of(capacity), true, true);
+  }
+
+  /**
+   * Creates a bin of a capacity profile.
+   *
+   * @param profile       The capacities that this bin could have.
+   * @param existing      Whether this is an existing bin.
+   * @param keepingPieces Whether pieces are recorded, otherwise only their
+   *                      total is kept and {@link #getPieces} is empty.
+   */
+  LinearBin(final CapacityProfile profile,
+            final boolean existing,
+            final boolean keepingPieces) {
+
+    this.profile = profile;
+    this.existing = existing;
+    this.keepingPieces = keepingPieces;
+    this.pieces = keepingPieces ? new double[INITIAL_PIECES] : NO_PIECES;
   }
 
   /**
    * Generates a Supplier that returns a new LinearBin when {@link Supplier#get}
    * is called.
    *
+   * The bins share one {@link CapacityProfile} made when this is called.
+   *
    * @param capacities List of available capacities for the bins created by this
    *                   lambda.
    * @return Supplier of LinearBin.
    */
   public static Supplier<LinearBin> newBinSupplier(final List<Double> capacities) {
 
-    return () -> new LinearBin(capacities);
+    final CapacityProfile profile = CapacityProfile.of(capacities);
+    return () -> new LinearBin(profile);
   }
 
   /**
-   * Automatically calls {@link #canFit} before placing the piece in the bin.
+   * Automatically calls {@link #canFit } before placing the piece in the bin.
    *
    * @param piece The piece to add.
    * @return true if the piece was added.
@@ -82,11 +119,28 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public boolean add(final Double piece) {
 
+    return add(piece.doubleValue());
+  }
+
+  /**
+   * Automatically calls {@link #canFit(double)} before placing the piece in
+   * the bin.
+   *
+   * @param piece The piece to add.
+   * @return true if the piece was added.
+   */
+  public boolean add(final double piece) {
+
     if (piece < 0.0) {
       throw new AssertionError("Negative value pieces not allowed: " + piece);
     }
     if (this.canFit(piece)) {
-      pieces.add(piece);
+      if (keepingPieces) {
+        if (pieceCount == pieces.length) {
+          pieces = Arrays.copyOf(pieces, pieceCount << 1);
+        }
+        pieces[pieceCount++] = piece;
+      }
       total += piece;
       return true;
     }
@@ -94,8 +148,41 @@ public class LinearBin implements Bin<Double, Double> {
   }
 
   /**
-   * Searches through the order of available capacities in the given order until
-   * it finds a capacity that fits.
+   * Adds as many copies of a piece as fit, up to {@code count}, at once. The
+   * copies are added to the total one at a time, so the bin takes the same
+   * copies, and ends with the same total, as adding them one by one with
+   * {@link #add(double)}.
+   *
+   * @param piece The piece to add.
+   * @param count The most copies to add.
+   * @return the number of copies added.
+   */
+  public int add(final double piece, final int count) {
+
+    if (piece < 0.0) {
+      throw new AssertionError("Negative value pieces not allowed: " + piece);
+    }
+    int copies = 0;
+    while (copies < count && canFit(piece)) {
+      total += piece;
+      copies++;
+    }
+    if (copies == 0) {
+      return 0;
+    }
+    if (keepingPieces) {
+      if (pieceCount + copies > pieces.length) {
+        pieces = Arrays.copyOf(pieces,
+                               Math.max(pieceCount + copies, pieceCount << 1));
+      }
+      Arrays.fill(pieces, pieceCount, pieceCount + copies, piece);
+      pieceCount += copies;
+    }
+    return copies;
+  }
+
+  /**
+   * Determines if the piece fits in any of the available capacities.
    *
    * @param piece Piece to be fitted.
    * @return returns true if this piece can be fitted.
@@ -103,8 +190,34 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public boolean canFit(final Double piece) {
 
-    return capacities.stream()
-                     .anyMatch(capacity -> capacity >= total + piece);
+    return canFit(piece.doubleValue());
+  }
+
+  /**
+   * Determines if the piece fits in any of the available capacities, which
+   * is when it fits the largest of them.
+   *
+   * @param piece Piece to be fitted.
+   * @return returns true if this piece can be fitted.
+   */
+  public boolean canFit(final double piece) {
+
+    return profile.canFit(total, piece);
+  }
+
+  /**
+   * Compares remaining capacities without boxing when {@code o} is also a
+   * LinearBin.
+   *
+   * @see #getMaxRemainingCapacity
+   */
+  @Override
+  public int compareTo(final Bin<Double, Double> o) {
+
+    if (o instanceof LinearBin) {
+      return Double.compare(remaining(), ((LinearBin) o).remaining());
+    }
+    return Bin.super.compareTo(o);
   }
 
   @Override
@@ -116,7 +229,7 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public final List<Double> getPieces() {
 
-    return Collections.unmodifiableList(pieces);
+    return new PieceList();
   }
 
   @Override
@@ -128,7 +241,17 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public final List<Double> getCapacities() {
 
-    return Collections.unmodifiableList(capacities);
+    return profile.getCapacities();
+  }
+
+  /**
+   * Returns the capacity profile this bin shares with bins made alike.
+   *
+   * @return the capacity profile.
+   */
+  public final CapacityProfile getProfile() {
+
+    return profile;
   }
 
   /**
@@ -140,7 +263,18 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public Double getMaxRemainingCapacity() {
 
-    return this.maxCapacity - total;
+    return remaining();
+  }
+
+  /**
+   * Computes the remaining capacity of this bin based on the maximum of its
+   * potential capacities.
+   *
+   * @return The maximum potential remaining capacity.
+   */
+  public double remaining() {
+
+    return profile.getMaxCapacity() - total;
   }
 
   /**
@@ -152,11 +286,18 @@ public class LinearBin implements Bin<Double, Double> {
   @Override
   public Double getSmallestCapacityNeeded() {
 
-    final Optional<Double> min = this.capacities
-        .stream()
-        .filter(capacity -> capacity >= total)
-        .min(Comparator.comparing(capacity -> capacity - total));
-    return min.orElseThrow(CapacitySupport::mustBeAtLeastOneCapacityException);
+    return smallestCapacityNeeded();
+  }
+
+  /**
+   * Primitive form of {@link #getSmallestCapacityNeeded}.
+   *
+   * @return The minimal capacity of this bins capacities that is still bigger
+   * than the total packed.
+   */
+  double smallestCapacityNeeded() {
+
+    return profile.smallestCapacityNeeded(total);
   }
 
   /**
@@ -166,15 +307,36 @@ public class LinearBin implements Bin<Double, Double> {
    */
   public boolean isMoreThanHalfMaxCapacity(final Double piece) {
 
-    return maxCapacity / 2 < piece;
+    return profile.getMaxCapacity() / 2 < piece;
   }
 
   @Override
   public String toString() {
 
-    return "LinearBin{" + "pieces=" + pieces + ", capacities=" + capacities +
+    return "LinearBin{" + "pieces=" + getPieces() +
+        ", capacities=" + getCapacities() +
         ", total=" + total + ", existing=" + existing + '}';
   }
 
+  /**
+   * A read only view of the pieces, it sees pieces added after it was made.
+   */
+  private final class PieceList extends AbstractList<Double>
+      implements RandomAccess {
+
+    @Override
+    public Double get(final int index) {
 
+      if (index < 0 || index >= pieceCount) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      return pieces[index];
+    }
+
+    @Override
+    public int size() {
+
+      return pieceCount;
+    }
+  }
 }
@@ -8,16 +8,116 @@
 
 package net.jnellis.binpack;
 
+import net.jnellis.binpack.packing.PackingSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 /**
  * A bin packer for length types only.
  */
 public class LinearBinPacker extends BinPacker<Double, Double, LinearBin> {
 
+  /**
+   * The profile of the last new bin, immutable so a stale read is harmless.
+   */
+  private CapacityProfile lastProfile;
+
+  private boolean largePieceFastPath;
+
+  /**
+   * Returns whether large pieces get bins of their own before packing.
+   *
+   * @return true if the large piece fast path is on.
+   */
+  public boolean isLargePieceFastPath() {
+
+    return largePieceFastPath;
+  }
+
+  /**
+   * Sets whether {@link #packAll} gives each large piece, one of more than
+   * half the maximum capacity of a new bin, a new bin of its own before the
+   * other pieces are packed, without a search of the bins. Two large pieces
+   * never share a bin, so these are the bins a decreasing first or best fit
+   * opens for them. Only the small pieces then go through the packing
+   * policy, which with {@link net.jnellis.binpack.packing.IndexedBestFit}
+   * finds a bin for each through an index of the bins by remaining capacity.
+   * <p>
+   * Large pieces are ordered by the pre-order policy before their bins are
+   * opened. A large piece that an existing bin can fit is packed by the
+   * policy. With an ascending or unordered pre-order the bins differ from
+   * packing every piece by the policy, which would have packed small pieces
+   * before large ones. The default is off.
+   *
+   * @param fastPath whether to open bins for large pieces first.
+   * @return Returns this LinearBinPacker for use in chainable operations.
+   */
+  public LinearBinPacker setLargePieceFastPath(final boolean fastPath) {
+
+    this.largePieceFastPath = fastPath;
+    return this;
+  }
+
+  @Override
+  protected List<Double> splice(final List<Double> pieces,
+                                final List<LinearBin> bins,
+                                final List<Double> availableCapacities) {
+
+    return packLargePieces(super.splice(pieces, bins, availableCapacities),
+                           bins, availableCapacities);
+  }
+
+  /**
+   * Opens a new bin for each large piece, if the large piece fast path is
+   * on, in one sweep of the pieces.
+   *
+   * @param pieces              The pieces to be packed.
+   * @param bins                The ordered existing bins, new bins are added.
+   * @param availableCapacities The ordered capacities for new bins.
+   * @return the small pieces and the large pieces an existing bin can fit,
+   * or {@code pieces} when the fast path is off.
+   * @see #setLargePieceFastPath
+   */
+  protected List<Double> packLargePieces(
+      final List<Double> pieces,
+      final List<LinearBin> bins,
+      final List<Double> availableCapacities) {
+
+    if (!largePieceFastPath || pieces.isEmpty()) {
+      return pieces;
+    }
+    final double half = Collections.max(availableCapacities) / 2;
+    // the bin with the most room is the only one that could fit a piece
+    LinearBin roomiest = null;
+    for (LinearBin bin : bins) {
+      if (roomiest == null || bin.remaining() > roomiest.remaining()) {
+        roomiest = bin;
+      }
+    }
+    final List<Double> large = new ArrayList<>();
+    final List<Double> rest = new ArrayList<>(pieces.size());
+    for (Double piece : pieces) {
+      if (half < piece && (roomiest == null || !roomiest.canFit(piece))) {
+        large.add(piece);
+      } else {
+        rest.add(piece);
+      }
+    }
+    for (Double piece : getPreOrderPolicy().order(large)) {
+      addNewBin(piece, bins, availableCapacities).add(piece);
+    }
+    return rest;
+  }
+
   /**
    * Creates a new {@code LinearBin} using {@code availableCapacities}
    * and then adds it to the list of {@code bins}.
+   * <p>
+   * New bins share the capacity profile of the previous new bin while the
+   * available capacities stay the same.
    *
    * @param piece               A piece used to assert it would fit a max
    *                            capacity bin.
@@ -30,7 +130,10 @@ public class LinearBinPacker extends BinPacker<Double, Double, LinearBin> {
                       final List<LinearBin> bins,
                       final List<Double> availableCapacities) {
 
-    final LinearBin theBin = new LinearBin(availableCapacities);
+    final CapacityProfile profile =
+        CapacityProfile.reuse(lastProfile, availableCapacities);
+    lastProfile = profile;
+    final LinearBin theBin = new LinearBin(profile);
     if (!theBin.canFit(piece)) {
       throw new AssertionError("Can't add bin to list of existingBins.");
     }
@@ -38,4 +141,155 @@ public class LinearBinPacker extends BinPacker<Double, Double, LinearBin> {
     return theBin;
   }
 
+  /**
+   * Packs primitive pieces into new bins and returns which bin each piece
+   * went into, rather than bins holding boxed pieces. The pre-order, packing
+   * and available capacities policies of this packer are applied as they are
+   * by {@link #packAll(List, List, List)}, without reordering {@code pieces}.
+   * Pieces are packed whole, they are not spliced.
+   * <p>
+   * While packing, bins keep only their totals, so the memory used per piece
+   * is about that of the returned bin number.
+   *
+   * @param pieces              The pieces to pack.
+   * @param availableCapacities Capacities for new bins.
+   * @return the bin of each piece and the total and capacity of each bin.
+   */
+  public BinAssignment packAll(final double[] pieces,
+                               final double[] availableCapacities) {
+
+    final List<Double> capacityList =
+        new ArrayList<>(availableCapacities.length);
+    for (double capacity : availableCapacities) {
+      capacityList.add(capacity);
+    }
+    final CapacityProfile profile = CapacityProfile.of(
+        getAvailableCapacitiesPreOrderPolicy().order(capacityList));
+
+    final List<LinearBin> bins = new ArrayList<>();
+    final int[] assignments = new int[pieces.length];
+    final PackingSession<Double, Double, LinearBin> session =
+        getPackingPolicy().begin(bins);
+    try {
+      for (int index : PieceOrder.order(pieces, getPreOrderPolicy())) {
+        final Double piece = pieces[index];
+        LinearBin bin = session.chooseBin(piece).orElse(null);
+        if (bin == null) {
+          bin = new NumberedBin(profile, bins.size());
+          if (!bin.canFit(piece)) {
+            throw new AssertionError("Can't add bin to list of existingBins.");
+          }
+          bins.add(bin);
+          session.binAdded(bin);
+        }
+        bin.add(pieces[index]);
+        session.pieceAdded(bin, piece);
+        // the session only chooses from bins, all of which are numbered
+        assignments[index] = ((NumberedBin) bin).number;
+      }
+    } finally {
+      session.end();
+    }
+
+    final double[] totals = new double[bins.size()];
+    final double[] binCapacities = new double[bins.size()];
+    for (int i = 0; i < totals.length; i++) {
+      final LinearBin bin = bins.get(i);
+      totals[i] = bin.getTotal();
+      binCapacities[i] = bin.smallestCapacityNeeded();
+    }
+    return new BinAssignment(assignments, totals, binCapacities);
+  }
+
+  /**
+   * Packs arbitrary items by their sizes and returns the items grouped by
+   * bin. Each size is extracted once into a primitive array, which is packed
+   * as {@link #packAll(double[], double[])} does, so items need not be
+   * comparable and {@code size} is not called while packing.
+   *
+   * @param items               The items to pack.
+   * @param size                The size of an item.
+   * @param availableCapacities Capacities for new bins.
+   * @param <T>                 item type
+   * @return the items of each bin, in the order bins were created.
+   * @see BinAssignment#groupByBin
+   */
+  public <T> List<List<T>> packAll(final List<T> items,
+                                   final ToDoubleFunction<? super T> size,
+                                   final double[] availableCapacities) {
+
+    final double[] pieces = new double[items.size()];
+    int i = 0;
+    for (T item : items) {
+      pieces[i++] = size.applyAsDouble(item);
+    }
+    return packAll(pieces, availableCapacities).groupByBin(items);
+  }
+
+  /**
+   * Packs grouped pieces without expanding them. Only the distinct sizes are
+   * pre-ordered and each time the packing policy chooses a bin for a size, as
+   * many pieces of that size as fit are added to it at once, so the policy's
+   * work grows with the sizes and bins rather than the pieces. The session is
+   * told once of each such bulk add, see {@link PackingSession#pieceAdded}.
+   * <p>
+   * This packs the same bins as packing the pieces one at a time for
+   * policies that keep choosing a bin until it can't fit the piece, such as
+   * first, best, next and last fit, and their indexed forms. Worst fit
+   * policies would have spread the pieces over several bins. Pieces are not
+   * spliced.
+   *
+   * @param groups              The pieces to be packed.
+   * @param existingBins        The initial set of bins.
+   * @param availableCapacities Capacities for new bins.
+   * @return Returns the modified list of existingBins
+   */
+  public List<LinearBin> packAll(final PieceGroups groups,
+                                 final List<LinearBin> existingBins,
+                                 final List<Double> availableCapacities) {
+
+    final List<LinearBin> bins =
+        getExistingBinPreOrderPolicy().order(existingBins);
+    final List<Double> capacities =
+        getAvailableCapacitiesPreOrderPolicy().order(availableCapacities);
+    final PackingSession<Double, Double, LinearBin> session =
+        getPackingPolicy().begin(bins);
+    try {
+      for (Double size : getPreOrderPolicy().order(groups.getSizes())) {
+        int remaining = groups.getCount(size);
+        while (remaining > 0) {
+          LinearBin bin = session.chooseBin(size).orElse(null);
+          if (bin == null) {
+            bin = addNewBin(size, bins, capacities);
+            session.binAdded(bin);
+          }
+          final int added = bin.add(size, remaining);
+          if (added == 0) {
+            throw new AssertionError("Chosen bin can't fit piece: " + size);
+          }
+          remaining -= added;
+          session.pieceAdded(bin, size);
+        }
+      }
+    } finally {
+      session.end();
+    }
+    return existingBins;
+  }
+
+  /**
+   * A bin that knows its position among the bins of a pack and keeps only
+   * the total of its pieces.
+   */
+  private static final class NumberedBin extends LinearBin {
+
+    private final int number;
+
+    NumberedBin(final CapacityProfile profile, final int number) {
+
+      super(profile, false, false);
+      this.number = number;
+    }
+  }
+
 }
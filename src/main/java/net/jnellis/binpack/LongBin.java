@@ -0,0 +1,333 @@
+/*
+ * LongBin.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * A packing bin for whole {@code long} units, see {@link FixedPointScale}.
+ * Totals are exact so a piece that fills a bin exactly always fits. Pieces
+ * and capacities are kept as primitive longs; {@link #add(long)}, {@link
+ * #canFit(long)} and {@link #remaining()} are the primitive forms of the
+ * {@link Bin} methods.
+ */
+public class LongBin implements Bin<Long, Long> {
+
+  private static final int INITIAL_PIECES = 4;
+
+  private static final long[] NO_PIECES = {};
+
+  private long[] pieces;
+
+  private int pieceCount = 0;
+
+  /**
+   * Capacities in the order given.
+   */
+  private final long[] capacities;
+
+  /**
+   * Capacities sorted, shared by bins of the same supplier.
+   */
+  private final long[] sorted;
+
+  private final boolean existing;
+
+  /**
+   * Flag indicating whether this bin records its pieces or only their total.
+   */
+  private final boolean keepingPieces;
+
+  private long total = 0L;
+
+  /**
+   * Create a new bin, it will not be marked as an existing bin.
+   *
+   * @param capacities The list of capacities that this bin could have.
+   */
+  public LongBin(final List<Long> capacities) {
+
+    this(toArray(Objects.requireNonNull(capacities)), false);
+  }
+
+  /**
+   * Creates a bin that represents an existing bin. An existing bin has a single
+   * capacity.
+   *
+   * @param capacity The single capacity of this bin.
+   */
+  public LongBin(final long capacity) {
+
+    this(new long[]{capacity}, true);
+  }
+
+  private LongBin(final long[] capacities, final boolean existing) {
+
+    this(capacities, sort(capacities), existing);
+  }
+
+  /**
+   * Creates a bin sharing arrays of capacities with other bins.
+   *
+   * @param capacities the capacities, in the order given.
+   * @param sorted     the capacities sorted ascending.
+   * @param existing   whether this is an existing bin.
+   */
+  LongBin(final long[] capacities,
+          final long[] sorted,
+          final boolean existing) {
+
+    this(capacities, sorted, existing, true);
+  }
+
+  /**
+   * Creates a bin sharing arrays of capacities with other bins.
+   *
+   * @param capacities    the capacities, in the order given.
+   * @param sorted        the capacities sorted ascending.
+   * @param existing      whether this is an existing bin.
+   * @param keepingPieces Whether pieces are recorded, otherwise only their
+   *                      total is kept and {@link #getPieces} is empty.
+   */
+  LongBin(final long[] capacities,
+          final long[] sorted,
+          final boolean existing,
+          final boolean keepingPieces) {
+
+    this.capacities = capacities;
+    this.sorted = sorted;
+    this.existing = existing;
+    this.keepingPieces = keepingPieces;
+    this.pieces = keepingPieces ? new long[INITIAL_PIECES] : NO_PIECES;
+  }
+
+  static long[] toArray(final List<Long> capacities) {
+
+    final long[] array = new long[capacities.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = capacities.get(i);
+    }
+    return array;
+  }
+
+  static long[] sort(final long[] capacities) {
+
+    if (capacities.length == 0) {
+      throw CapacitySupport.mustBeAtLeastOneCapacityException();
+    }
+    final long[] sorted = capacities.clone();
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  /**
+   * Generates a Supplier that returns a new LongBin when {@link Supplier#get}
+   * is called. The bins share one copy of the capacities.
+   *
+   * @param capacities List of available capacities for the bins created by
+   *                   this lambda.
+   * @return Supplier of LongBin.
+   */
+  public static Supplier<LongBin> newBinSupplier(final List<Long> capacities) {
+
+    final long[] array = toArray(capacities);
+    final long[] sorted = sort(array);
+    return () -> new LongBin(array, sorted, false);
+  }
+
+  /**
+   * Automatically calls {@link #canFit } before placing the piece in the bin.
+   *
+   * @param piece The piece to add.
+   * @return true if the piece was added.
+   */
+  @Override
+  public boolean add(final Long piece) {
+
+    return add(piece.longValue());
+  }
+
+  /**
+   * Automatically calls {@link #canFit(long)} before placing the piece in
+   * the bin.
+   *
+   * @param piece The piece to add.
+   * @return true if the piece was added.
+   */
+  public boolean add(final long piece) {
+
+    if (piece < 0L) {
+      throw new AssertionError("Negative value pieces not allowed: " + piece);
+    }
+    if (canFit(piece)) {
+      if (keepingPieces) {
+        if (pieceCount == pieces.length) {
+          pieces = Arrays.copyOf(pieces, pieceCount << 1);
+        }
+        pieces[pieceCount++] = piece;
+      }
+      total += piece;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean canFit(final Long piece) {
+
+    return canFit(piece.longValue());
+  }
+
+  /**
+   * Determines if the piece fits in the largest of the capacities.
+   *
+   * @param piece Piece to be fitted.
+   * @return returns true if this piece can be fitted.
+   */
+  public boolean canFit(final long piece) {
+
+    return piece <= remaining();
+  }
+
+  /**
+   * Compares remaining capacities without boxing when {@code o} is also a
+   * LongBin.
+   *
+   * @see #getMaxRemainingCapacity
+   */
+  @Override
+  public int compareTo(final Bin<Long, Long> o) {
+
+    if (o instanceof LongBin) {
+      return Long.compare(remaining(), ((LongBin) o).remaining());
+    }
+    return Bin.super.compareTo(o);
+  }
+
+  @Override
+  public final boolean isExisting() {
+
+    return existing;
+  }
+
+  @Override
+  public final List<Long> getPieces() {
+
+    return new PieceList();
+  }
+
+  @Override
+  public final Long getTotal() {
+
+    return total;
+  }
+
+  @Override
+  public final List<Long> getCapacities() {
+
+    return new CapacityList(capacities);
+  }
+
+  @Override
+  public Long getMaxRemainingCapacity() {
+
+    return remaining();
+  }
+
+  /**
+   * Computes the remaining capacity of this bin based on the maximum of its
+   * potential capacities.
+   *
+   * @return The maximum potential remaining capacity.
+   */
+  public long remaining() {
+
+    return sorted[sorted.length - 1] - total;
+  }
+
+  /**
+   * Finds the minimal capacity needed given the current total.
+   *
+   * @return The minimal capacity of this bins capacities that is at least
+   * the total packed.
+   */
+  @Override
+  public Long getSmallestCapacityNeeded() {
+
+    int index = Arrays.binarySearch(sorted, total);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    if (index == sorted.length) {
+      throw CapacitySupport.mustBeAtLeastOneCapacityException();
+    }
+    return sorted[index];
+  }
+
+  @Override
+  public String toString() {
+
+    return "LongBin{" + "pieces=" + getPieces() +
+        ", capacities=" + getCapacities() +
+        ", total=" + total + ", existing=" + existing + '}';
+  }
+
+  /**
+   * A read only view of the pieces, it sees pieces added after it was made.
+   */
+  private final class PieceList extends AbstractList<Long>
+      implements RandomAccess {
+
+    @Override
+    public Long get(final int index) {
+
+      if (index < 0 || index >= pieceCount) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      return pieces[index];
+    }
+
+    @Override
+    public int size() {
+
+      return pieceCount;
+    }
+  }
+
+  /**
+   * A read only view of the capacities.
+   */
+  private static final class CapacityList extends AbstractList<Long>
+      implements RandomAccess {
+
+    private final long[] capacities;
+
+    CapacityList(final long[] capacities) {
+
+      this.capacities = capacities;
+    }
+
+    @Override
+    public Long get(final int index) {
+
+      return capacities[index];
+    }
+
+    @Override
+    public int size() {
+
+      return capacities.length;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * LongBinPacker.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.PackingSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bin packer for lengths in whole {@code long} units, so fits are exact
+ * and comparisons are integer comparisons. Lengths may be given as doubles
+ * and converted with a {@link FixedPointScale}.
+ * <pre>{@code
+ * FixedPointScale hundredths = FixedPointScale.of(100);
+ * List<LongBin> bins = new LongBinPacker()
+ *     .packAll(pieces, new ArrayList<>(), Arrays.asList(8d, 12d), hundredths);
+ * }</pre>
+ */
+public class LongBinPacker extends BinPacker<Long, Long, LongBin> {
+
+  /**
+   * Capacities of the last new bin and the supplier sharing them.
+   */
+  private List<Long> lastCapacities;
+
+  private Supplier<LongBin> lastSupplier;
+
+  /**
+   * Creates a new {@code LongBin} using {@code availableCapacities}
+   * and then adds it to the list of {@code bins}.
+   *
+   * @param piece               A piece used to assert it would fit a max
+   *                            capacity bin.
+   * @param bins                List of bins.
+   * @param availableCapacities List of capacities that the new bin could be.
+   * @return the new LongBin.
+   */
+  @Override
+  protected LongBin addNewBin(final Long piece,
+                              final List<LongBin> bins,
+                              final List<Long> availableCapacities) {
+
+    if (!availableCapacities.equals(lastCapacities)) {
+      lastCapacities = new ArrayList<>(availableCapacities);
+      lastSupplier = LongBin.newBinSupplier(lastCapacities);
+    }
+    final LongBin theBin = lastSupplier.get();
+    if (!theBin.canFit(piece)) {
+      throw new AssertionError("Can't add bin to list of existingBins.");
+    }
+    bins.add(theBin);
+    return theBin;
+  }
+
+  /**
+   * Converts double pieces and capacities to units of {@code scale} and packs
+   * them as {@link #packAll(List, List, List)} does.
+   *
+   * @param pieces              List of pieces to be packed.
+   * @param existingBins        The initial set of bins, in units.
+   * @param availableCapacities Capacities for new bins.
+   * @param scale               The units to convert to.
+   * @return Returns the modified list of existingBins
+   * @exception ArithmeticException if a length is too big for a long.
+   */
+  public List<LongBin> packAll(final List<Double> pieces,
+                               final List<LongBin> existingBins,
+                               final List<Double> availableCapacities,
+                               final FixedPointScale scale) {
+
+    return packAll(scale.toUnits(pieces),
+                   existingBins,
+                   scale.toUnits(availableCapacities));
+  }
+
+  /**
+   * Packs primitive pieces into new bins and returns which bin each piece
+   * went into, as {@link LinearBinPacker#packAll(double[], double[])} does.
+   * Totals and capacities of the assignment are in units.
+   *
+   * @param pieces              The pieces to pack, in units.
+   * @param availableCapacities Capacities for new bins, in units.
+   * @return the bin of each piece and the total and capacity of each bin.
+   */
+  public BinAssignment packAll(final long[] pieces,
+                               final long[] availableCapacities) {
+
+    final List<Long> capacityList = new ArrayList<>(availableCapacities.length);
+    for (long capacity : availableCapacities) {
+      capacityList.add(capacity);
+    }
+    final long[] capacities = LongBin.toArray(
+        getAvailableCapacitiesPreOrderPolicy().order(capacityList));
+    final long[] sorted = LongBin.sort(capacities);
+
+    final List<LongBin> bins = new ArrayList<>();
+    final int[] assignments = new int[pieces.length];
+    final PackingSession<Long, Long, LongBin> session =
+        getPackingPolicy().begin(bins);
+    try {
+      for (int index : PieceOrder.order(pieces, getPreOrderPolicy())) {
+        final Long piece = pieces[index];
+        LongBin bin = session.chooseBin(piece).orElse(null);
+        if (bin == null) {
+          bin = new NumberedBin(capacities, sorted, bins.size());
+          if (!bin.canFit(piece)) {
+            throw new AssertionError("Can't add bin to list of existingBins.");
+          }
+          bins.add(bin);
+          session.binAdded(bin);
+        }
+        bin.add(pieces[index]);
+        session.pieceAdded(bin, piece);
+        // the session only chooses from bins, all of which are numbered
+        assignments[index] = ((NumberedBin) bin).number;
+      }
+    } finally {
+      session.end();
+    }
+
+    final double[] totals = new double[bins.size()];
+    final double[] binCapacities = new double[bins.size()];
+    for (int i = 0; i < totals.length; i++) {
+      final LongBin bin = bins.get(i);
+      totals[i] = bin.getTotal();
+      binCapacities[i] = bin.getSmallestCapacityNeeded();
+    }
+    return new BinAssignment(assignments, totals, binCapacities);
+  }
+
+  /**
+   * Packs arbitrary items by their sizes, in units, and returns the items
+   * grouped by bin. Each size is extracted once into a primitive array, which
+   * is packed as {@link #packAll(long[], long[])} does, so items need not be
+   * comparable and {@code size} is not called while packing. Pieces are
+   * packed whole into new bins, they are not spliced.
+   *
+   * @param items               The items to pack.
+   * @param size                The size of an item in units.
+   * @param availableCapacities Capacities for new bins.
+   * @param <T>                 item type
+   * @return the items of each bin, in the order bins were created.
+   * @see BinAssignment#groupByBin
+   */
+  public <T> List<List<T>> packAll(final List<T> items,
+                                   final ToLongFunction<? super T> size,
+                                   final long[] availableCapacities) {
+
+    final long[] pieces = new long[items.size()];
+    int i = 0;
+    for (T item : items) {
+      pieces[i++] = size.applyAsLong(item);
+    }
+    return packAll(pieces, availableCapacities).groupByBin(items);
+  }
+
+  /**
+   * A bin that knows its position among the bins of a pack and keeps only
+   * the total of its pieces.
+   */
+  private static final class NumberedBin extends LongBin {
+
+    private final int number;
+
+    NumberedBin(final long[] capacities,
+                final long[] sorted,
+                final int number) {
+
+      super(capacities, sorted, false, false);
+      this.number = number;
+    }
+  }
+}
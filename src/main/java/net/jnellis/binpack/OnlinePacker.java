@@ -0,0 +1,242 @@
+/*
+ * OnlinePacker.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.PackingSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Packs pieces one at a time as they arrive, handing bins off once they are
+ * closed instead of returning every bin at the end. A bin is closed as soon
+ * as it can no longer fit the smallest piece expected, so only open bins are
+ * kept and memory stays proportional to their number rather than to the
+ * input.
+ * <pre>{@code
+ * BlockingQueue<LinearBin> closed = new LinkedBlockingQueue<>();
+ * OnlinePacker<Double, Double, LinearBin> packer =
+ *     new OnlinePacker<>(new LinearBinPacker(), Arrays.asList(8d, 12d),
+ *                        0.5d, closed::add);
+ * feed.forEach(packer::offer);
+ * packer.flush();
+ * }</pre>
+ * Bins are chosen by the packing policy of the {@link BinPacker} and made by
+ * its {@link BinPacker#addNewBin}, with capacities ordered once by its
+ * available capacities policy. Each piece is spliced as the packer's {@link
+ * BinPacker#splice} does, so a {@link SpliceableBinPacker} breaks up pieces
+ * too big for a new bin. Pieces are not pre-ordered and there are no
+ * existing bins. Closed bins are passed to the consumer in the order they
+ * close.
+ * <p>
+ * The number of open bins may be bounded with {@link #setMaxOpenBins}, Next-K
+ * Fit, which bounds memory and the bins searched per piece. When a new bin is
+ * needed and K bins are open, one is closed as chosen by an {@link Eviction}
+ * rule. With K of 1 packing is Next Fit.
+ * <p>
+ * Choosing a bin for a piece takes O(K) with a scanning policy and O(log K)
+ * with an indexed one. Closing a bin, whether it is full or evicted, removes
+ * it from the open bins in O(K) and tells the packing session with {@link
+ * PackingSession#binRemoved}, which an indexed policy handles in O(log K)
+ * amortized. Evicting the {@link Eviction#FULLEST} bin also scans the open
+ * bins.
+ * <p>
+ * Unbounded, closing only depends on the bins, not on the policy, so bins
+ * that a policy will never choose again, such as all but the last bin of
+ * {@link net.jnellis.binpack.packing.NextFit}, stay open until flushed or
+ * until they can't fit the smallest piece.
+ * <p>
+ * An online packer is not thread safe.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+public class OnlinePacker<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>> {
+
+  private final BinPacker<P, C, B> binPacker;
+
+  private final List<C> capacities;
+
+  private final P smallestPiece;
+
+  private final Consumer<? super B> closedBins;
+
+  private final List<B> openBins = new ArrayList<>();
+
+  private PackingSession<P, C, B> session;
+
+  private int maxOpenBins = Integer.MAX_VALUE;
+
+  private Eviction eviction = Eviction.OLDEST;
+
+  /**
+   * Rules for choosing the open bin to close when a new bin is needed and
+   * the maximum number of bins are open.
+   */
+  public enum Eviction {
+    /**
+     * Close the bin opened first.
+     */
+    OLDEST,
+    /**
+     * Close the bin with the least remaining capacity, the one opened first
+     * of equally full bins. Found by scanning the open bins.
+     */
+    FULLEST
+  }
+
+  /**
+   * Creates an online packer.
+   *
+   * @param binPacker           Provides the packing policy and new bins.
+   * @param availableCapacities Capacities for new bins.
+   * @param smallestPiece       The smallest piece expected, a bin that can't
+   *                            fit it is closed.
+   * @param closedBins          Receives each bin when it is closed.
+   */
+  public OnlinePacker(final BinPacker<P, C, B> binPacker,
+                      final List<C> availableCapacities,
+                      final P smallestPiece,
+                      final Consumer<? super B> closedBins) {
+
+    this.binPacker = Objects.requireNonNull(binPacker);
+    this.capacities = binPacker.getAvailableCapacitiesPreOrderPolicy()
+                               .order(new ArrayList<>(availableCapacities));
+    this.smallestPiece = Objects.requireNonNull(smallestPiece);
+    this.closedBins = Objects.requireNonNull(closedBins);
+    this.session = binPacker.getPackingPolicy().begin(openBins);
+  }
+
+  /**
+   * Bounds the number of open bins.
+   *
+   * @param maxOpenBins The most bins kept open, at least one.
+   * @param eviction    Chooses the bin to close when a new bin is needed.
+   * @return this online packer.
+   * @exception IllegalArgumentException if {@code maxOpenBins} is less than
+   *                                     one.
+   */
+  public OnlinePacker<P, C, B> setMaxOpenBins(final int maxOpenBins,
+                                              final Eviction eviction) {
+
+    if (maxOpenBins < 1) {
+      throw new IllegalArgumentException(
+          "At least one open bin is needed: " + maxOpenBins);
+    }
+    this.maxOpenBins = maxOpenBins;
+    this.eviction = Objects.requireNonNull(eviction);
+    return this;
+  }
+
+  /**
+   * Returns the most bins kept open.
+   *
+   * @return the maximum number of open bins.
+   */
+  public int getMaxOpenBins() {
+
+    return maxOpenBins;
+  }
+
+  /**
+   * Packs a piece, or each of its splices, into an open bin, or a new bin,
+   * closing the bin if it can no longer fit the smallest piece.
+   *
+   * @param piece The piece to pack.
+   * @exception AssertionError if the piece won't fit a new bin.
+   */
+  public void offer(final P piece) {
+
+    final List<P> pieces = Collections.singletonList(piece);
+    for (P splice : binPacker.splice(pieces, capacities)) {
+      pack(splice);
+    }
+  }
+
+  private void pack(final P piece) {
+
+    B bin = session.chooseBin(piece).orElse(null);
+    if (bin == null) {
+      if (openBins.size() >= maxOpenBins) {
+        close(evict());
+      }
+      bin = binPacker.addNewBin(piece, openBins, capacities);
+      session.binAdded(bin);
+    }
+    bin.add(piece);
+    session.pieceAdded(bin, piece);
+    if (!bin.canFit(smallestPiece)) {
+      close(bin);
+    }
+  }
+
+  /**
+   * Closes every open bin, in the order they were opened.
+   */
+  public void flush() {
+
+    session.end();
+    final List<B> bins = new ArrayList<>(openBins);
+    openBins.clear();
+    session = binPacker.getPackingPolicy().begin(openBins);
+    bins.forEach(closedBins);
+  }
+
+  /**
+   * Returns the bins that are still open.
+   *
+   * @return a read only view of the open bins.
+   */
+  public List<B> getOpenBins() {
+
+    return Collections.unmodifiableList(openBins);
+  }
+
+  /**
+   * Chooses the open bin to close by the eviction rule.
+   *
+   * @return the bin to close.
+   */
+  private B evict() {
+
+    B evicted = openBins.get(0);
+    if (eviction == Eviction.FULLEST) {
+      for (B bin : openBins) {
+        if (bin.compareTo(evicted) < 0) {
+          evicted = bin;
+        }
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Removes a bin from the open bins, tells the session and hands it off.
+   *
+   * @param bin the bin to close.
+   */
+  private void close(final B bin) {
+
+    for (int i = openBins.size() - 1; i >= 0; i--) {
+      if (openBins.get(i) == bin) {
+        openBins.remove(i);
+        break;
+      }
+    }
+    session.binRemoved(bin);
+    closedBins.accept(bin);
+  }
+}
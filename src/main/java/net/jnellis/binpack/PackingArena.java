@@ -0,0 +1,198 @@
+/*
+ * PackingArena.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.packing.BestFit;
+import net.jnellis.binpack.packing.FirstFit;
+import net.jnellis.binpack.packing.NextFit;
+import net.jnellis.binpack.packing.PackingPolicy;
+import net.jnellis.binpack.preorder.Ascending;
+import net.jnellis.binpack.preorder.AsIs;
+import net.jnellis.binpack.preorder.Descending;
+import net.jnellis.binpack.preorder.ParallelAscending;
+import net.jnellis.binpack.preorder.ParallelDescending;
+import net.jnellis.binpack.preorder.PreOrderPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A reusable context for packing many small jobs one after another without
+ * allocating. The arena owns a {@link BinStore} and a buffer for ordering
+ * pieces, and {@link #reset} empties them for the next job while keeping
+ * their memory, the store's capacity profiles and its bin views. Once the
+ * arrays have grown to the size of the largest job, packing allocates
+ * nothing. Existing bins have no profiles, so offcuts that differ from job to
+ * job don't grow the store.
+ * <pre>{@code
+ * PackingArena arena = new PackingArena(new Descending<>(), new BestFit<>());
+ * for (double[] job : jobs) {
+ *   arena.reset();
+ *   BinStore bins = arena.packAll(job, capacities);
+ *   // read bins before the next reset
+ * }
+ * }</pre>
+ * Pieces are ordered and bins chosen on the primitive arrays for the {@link
+ * AsIs}, {@link Ascending} and {@link Descending} pre-orders, and their
+ * parallel forms, and for the {@link FirstFit}, {@link BestFit} and {@link
+ * NextFit} packing policies, but not for subclasses of any of these, which
+ * may override them. Other policies are applied by a {@link
+ * StoredBinPacker} over the same store, which packs the same bins but
+ * allocates as any packer does. Pieces are not spliced.
+ * <p>
+ * The store and its bins are only valid until the next reset. An arena is
+ * not thread safe, keep one per thread.
+ */
+public final class PackingArena {
+
+  private final BinStore store = new BinStore();
+
+  private final PreOrderPolicy<Double> preOrderPolicy;
+
+  private final PackingPolicy<Double, Double, StoredBin> packingPolicy;
+
+  private double[] ordered = new double[16];
+
+  /**
+   * Creates an arena.
+   *
+   * @param preOrderPolicy The ordering imposed on the pieces of a job.
+   * @param packingPolicy  The algorithm choosing bins.
+   */
+  public PackingArena(
+      final PreOrderPolicy<Double> preOrderPolicy,
+      final PackingPolicy<Double, Double, StoredBin> packingPolicy) {
+
+    this.preOrderPolicy = Objects.requireNonNull(preOrderPolicy);
+    this.packingPolicy = Objects.requireNonNull(packingPolicy);
+  }
+
+  /**
+   * Returns the store bins are packed into.
+   *
+   * @return the store.
+   */
+  public BinStore getStore() {
+
+    return store;
+  }
+
+  /**
+   * Empties the store and the buffers for the next job.
+   */
+  public void reset() {
+
+    store.clear();
+  }
+
+  /**
+   * Adds an existing bin to pack into first, such as an offcut.
+   *
+   * @param capacity The single capacity of this bin.
+   * @return the bin number.
+   */
+  public int addExistingBin(final double capacity) {
+
+    return store.addExistingBin(capacity);
+  }
+
+  /**
+   * Packs pieces into the store's bins, adding bins with the available
+   * capacities when none fits.
+   *
+   * @param pieces              The pieces to pack, left as they are.
+   * @param availableCapacities Capacities for new bins.
+   * @return the store.
+   * @exception AssertionError if a piece won't fit a new bin.
+   */
+  public BinStore packAll(final double[] pieces,
+                          final double[] availableCapacities) {
+
+    final int n = pieces.length;
+    final Class<?> order = preOrderPolicy.getClass();
+    final boolean descending = order == Descending.class ||
+        order == ParallelDescending.class;
+    final boolean sorted = descending || order == Ascending.class ||
+        order == ParallelAscending.class;
+    if (!sorted && order != AsIs.class || !isPrimitive(packingPolicy)) {
+      return packBoxed(pieces, availableCapacities);
+    }
+    if (ordered.length < n) {
+      ordered = new double[Math.max(n, ordered.length << 1)];
+    }
+    System.arraycopy(pieces, 0, ordered, 0, n);
+    if (sorted) {
+      Arrays.sort(ordered, 0, n);
+    }
+    final int profile = store.profile(availableCapacities);
+    final double maxCapacity = store.getMaxCapacity(profile);
+    for (int i = 0; i < n; i++) {
+      final double piece = ordered[descending ? n - 1 - i : i];
+      int bin = choose(piece);
+      if (bin < 0) {
+        if (maxCapacity < piece) {
+          throw new AssertionError("Can't add bin to list of existingBins.");
+        }
+        bin = store.addBin(profile);
+      }
+      store.add(bin, piece);
+    }
+    return store;
+  }
+
+  private static boolean isPrimitive(final PackingPolicy<?, ?, ?> policy) {
+
+    final Class<?> type = policy.getClass();
+    return type == FirstFit.class || type == BestFit.class ||
+        type == NextFit.class;
+  }
+
+  /**
+   * Chooses a bin on the store's arrays.
+   *
+   * @param piece the piece to fit.
+   * @return the bin number or -1 if no bin fits.
+   */
+  private int choose(final double piece) {
+
+    final Class<?> type = packingPolicy.getClass();
+    if (type == FirstFit.class) {
+      return store.firstFit(piece);
+    }
+    if (type == BestFit.class) {
+      return store.bestFit(piece);
+    }
+    final int last = store.size() - 1;
+    return last >= 0 && store.canFit(last, piece) ? last : -1;
+  }
+
+  /**
+   * Packs through a {@link StoredBinPacker} for policies that have no
+   * primitive form.
+   */
+  private BinStore packBoxed(final double[] pieces,
+                             final double[] availableCapacities) {
+
+    final List<Double> pieceList = new ArrayList<>(pieces.length);
+    for (double piece : pieces) {
+      pieceList.add(piece);
+    }
+    final List<Double> capacityList =
+        new ArrayList<>(availableCapacities.length);
+    for (double capacity : availableCapacities) {
+      capacityList.add(capacity);
+    }
+    final StoredBinPacker binPacker = new StoredBinPacker(store);
+    binPacker.setPreOrderPolicy(preOrderPolicy)
+             .setPackingPolicy(packingPolicy);
+    return binPacker.packAll(pieceList, capacityList);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * PieceGroups.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pieces given as sizes and how many of each, such as a cut list of "400 of
+ * 1250, 120 of 830". Memory is per distinct size, not per piece. Adding a
+ * size again adds to its count. Sizes are kept in the order first added.
+ */
+public final class PieceGroups {
+
+  private final Map<Double, Integer> counts = new LinkedHashMap<>();
+
+  private long pieceCount;
+
+  /**
+   * Creates groups from parallel arrays of sizes and counts.
+   *
+   * @param sizes  piece sizes.
+   * @param counts number of pieces of each size.
+   * @return the groups.
+   */
+  public static PieceGroups of(final double[] sizes, final int[] counts) {
+
+    if (sizes.length != counts.length) {
+      throw new IllegalArgumentException(
+          "Sizes and counts differ in length.");
+    }
+    final PieceGroups groups = new PieceGroups();
+    for (int i = 0; i < sizes.length; i++) {
+      groups.add(sizes[i], counts[i]);
+    }
+    return groups;
+  }
+
+  /**
+   * Adds {@code count} pieces of {@code size}.
+   *
+   * @param size  the piece size.
+   * @param count the number of pieces.
+   * @return these groups.
+   */
+  public PieceGroups add(final double size, final int count) {
+
+    if (size < 0.0) {
+      throw new AssertionError("Negative value pieces not allowed: " + size);
+    }
+    if (count < 0) {
+      throw new IllegalArgumentException("Negative count: " + count);
+    }
+    if (count > 0) {
+      counts.merge(size, count, Math::addExact);
+      pieceCount += count;
+    }
+    return this;
+  }
+
+  /**
+   * Returns the distinct sizes in the order first added.
+   *
+   * @return a new list of the sizes.
+   */
+  public List<Double> getSizes() {
+
+    return new ArrayList<>(counts.keySet());
+  }
+
+  /**
+   * Returns the number of pieces of a size.
+   *
+   * @param size a piece size.
+   * @return the count, zero if there are none.
+   */
+  public int getCount(final double size) {
+
+    return counts.getOrDefault(size, 0);
+  }
+
+  /**
+   * Returns the number of distinct sizes.
+   *
+   * @return number of sizes.
+   */
+  public int size() {
+
+    return counts.size();
+  }
+
+  /**
+   * Returns the number of pieces of every size.
+   *
+   * @return total number of pieces.
+   */
+  public long getPieceCount() {
+
+    return pieceCount;
+  }
+
+  @Override
+  public String toString() {
+
+    return "PieceGroups" + counts;
+  }
+}
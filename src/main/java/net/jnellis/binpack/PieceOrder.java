@@ -0,0 +1,275 @@
+/*
+ * PieceOrder.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.preorder.Ascending;
+import net.jnellis.binpack.preorder.AsIs;
+import net.jnellis.binpack.preorder.Descending;
+import net.jnellis.binpack.preorder.ParallelAscending;
+import net.jnellis.binpack.preorder.ParallelDescending;
+import net.jnellis.binpack.preorder.PreOrderPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies a {@link PreOrderPolicy} to primitive pieces as a permutation of
+ * their indexes, leaving the pieces where they are. Equal pieces keep their
+ * relative order, as the stable sorts of {@link Ascending} and {@link
+ * Descending} do.
+ */
+final class PieceOrder {
+
+  private PieceOrder() {
+
+  }
+
+  /**
+   * Orders the indexes of {@code pieces} by {@code policy}. {@link AsIs},
+   * {@link Ascending} and {@link Descending} are ordered without boxing, and
+   * so are their parallel forms, sorted with {@link Arrays#parallelSort}. Any
+   * other policy, including subclasses of those, which may override {@code
+   * order}, orders a boxed copy of the pieces that is then matched back to
+   * indexes.
+   *
+   * @param pieces The pieces to order.
+   * @param policy The ordering to impose.
+   * @return indexes of {@code pieces} in packing order.
+   * @exception IllegalStateException if the policy did more than reorder the
+   *                                  pieces.
+   */
+  static int[] order(final double[] pieces,
+                     final PreOrderPolicy<Double> policy) {
+
+    final int n = pieces.length;
+    final Class<?> type = policy.getClass();
+    if (type == AsIs.class) {
+      final int[] order = new int[n];
+      Arrays.setAll(order, i -> i);
+      return order;
+    }
+    final double[] sorted = pieces.clone();
+    if (type == ParallelAscending.class || type == ParallelDescending.class) {
+      Arrays.parallelSort(sorted);
+    } else {
+      Arrays.sort(sorted);
+    }
+    final int[] ascending = indexesByValue(pieces, sorted);
+    if (type == Ascending.class || type == ParallelAscending.class) {
+      return ascending;
+    }
+    if (type == Descending.class || type == ParallelDescending.class) {
+      return reverseRuns(ascending, sorted);
+    }
+
+    final List<Double> values = new ArrayList<>(n);
+    for (double piece : pieces) {
+      values.add(piece);
+    }
+    final List<Double> ordered = policy.order(values);
+    if (ordered.size() != n) {
+      throw reorderOnlyException();
+    }
+    // number of indexes already taken from each run of equal values
+    final int[] taken = new int[n];
+    final int[] order = new int[n];
+    int i = 0;
+    for (Double value : ordered) {
+      final int first = lowerBound(sorted, value);
+      final int position = first + taken[first]++;
+      if (position >= n || Double.compare(sorted[position], value) != 0) {
+        throw reorderOnlyException();
+      }
+      order[i++] = ascending[position];
+    }
+    return order;
+  }
+
+  /**
+   * Orders the indexes of {@code pieces} by {@code policy}, as {@link
+   * #order(double[], PreOrderPolicy)} does. {@link AsIs}, {@link Ascending}
+   * and {@link Descending}, but not their subclasses, are ordered without
+   * boxing, any other policy orders a boxed copy of the pieces that is then
+   * matched back to indexes.
+   *
+   * @param pieces The pieces to order.
+   * @param policy The ordering to impose.
+   * @return indexes of {@code pieces} in packing order.
+   * @exception IllegalStateException if the policy did more than reorder the
+   *                                  pieces.
+   */
+  static int[] order(final long[] pieces, final PreOrderPolicy<Long> policy) {
+
+    final int n = pieces.length;
+    final Class<?> type = policy.getClass();
+    if (type == AsIs.class) {
+      final int[] order = new int[n];
+      Arrays.setAll(order, i -> i);
+      return order;
+    }
+    final long[] sorted = pieces.clone();
+    Arrays.sort(sorted);
+    final int[] ascending = indexesByValue(pieces, sorted);
+    if (type == Ascending.class) {
+      return ascending;
+    }
+    if (type == Descending.class) {
+      return reverseRuns(ascending, sorted);
+    }
+
+    final List<Long> values = new ArrayList<>(n);
+    for (long piece : pieces) {
+      values.add(piece);
+    }
+    final List<Long> ordered = policy.order(values);
+    if (ordered.size() != n) {
+      throw reorderOnlyException();
+    }
+    // number of indexes already taken from each run of equal values
+    final int[] taken = new int[n];
+    final int[] order = new int[n];
+    int i = 0;
+    for (Long value : ordered) {
+      final int first = lowerBound(sorted, value);
+      final int position = first + taken[first]++;
+      if (position >= n || sorted[position] != value) {
+        throw reorderOnlyException();
+      }
+      order[i++] = ascending[position];
+    }
+    return order;
+  }
+
+  /**
+   * Stable sort of the indexes of {@code pieces} by value.
+   *
+   * @param pieces the pieces.
+   * @param sorted the pieces sorted.
+   * @return indexes of pieces in ascending order of value.
+   */
+  private static int[] indexesByValue(final double[] pieces,
+                                      final double[] sorted) {
+
+    final int[] filled = new int[pieces.length];
+    final int[] indexes = new int[pieces.length];
+    for (int i = 0; i < pieces.length; i++) {
+      final int first = lowerBound(sorted, pieces[i]);
+      indexes[first + filled[first]++] = i;
+    }
+    return indexes;
+  }
+
+  /**
+   * Reverses the runs of equal values, but not the indexes within a run.
+   *
+   * @param ascending indexes in ascending order of value.
+   * @param sorted    the pieces sorted.
+   * @return indexes in descending order of value.
+   */
+  private static int[] reverseRuns(final int[] ascending,
+                                   final double[] sorted) {
+
+    final int[] descending = new int[ascending.length];
+    int i = 0;
+    int end = sorted.length;
+    while (end > 0) {
+      final int start = lowerBound(sorted, sorted[end - 1]);
+      System.arraycopy(ascending, start, descending, i, end - start);
+      i += end - start;
+      end = start;
+    }
+    return descending;
+  }
+
+  /**
+   * Finds the first position of {@code value} in {@code sorted}, or where it
+   * would be inserted.
+   */
+  private static int lowerBound(final double[] sorted, final double value) {
+
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (Double.compare(sorted[mid], value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Stable sort of the indexes of {@code pieces} by value.
+   *
+   * @param pieces the pieces.
+   * @param sorted the pieces sorted.
+   * @return indexes of pieces in ascending order of value.
+   */
+  private static int[] indexesByValue(final long[] pieces,
+                                      final long[] sorted) {
+
+    final int[] filled = new int[pieces.length];
+    final int[] indexes = new int[pieces.length];
+    for (int i = 0; i < pieces.length; i++) {
+      final int first = lowerBound(sorted, pieces[i]);
+      indexes[first + filled[first]++] = i;
+    }
+    return indexes;
+  }
+
+  /**
+   * Reverses the runs of equal values, but not the indexes within a run.
+   *
+   * @param ascending indexes in ascending order of value.
+   * @param sorted    the pieces sorted.
+   * @return indexes in descending order of value.
+   */
+  private static int[] reverseRuns(final int[] ascending,
+                                   final long[] sorted) {
+
+    final int[] descending = new int[ascending.length];
+    int i = 0;
+    int end = sorted.length;
+    while (end > 0) {
+      final int start = lowerBound(sorted, sorted[end - 1]);
+      System.arraycopy(ascending, start, descending, i, end - start);
+      i += end - start;
+      end = start;
+    }
+    return descending;
+  }
+
+  /**
+   * Finds the first position of {@code value} in {@code sorted}, or where it
+   * would be inserted.
+   */
+  private static int lowerBound(final long[] sorted, final long value) {
+
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sorted[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static IllegalStateException reorderOnlyException() {
+
+    return new IllegalStateException(
+        "PreOrderPolicy must only reorder the pieces it is given.");
+  }
+}
@@ -0,0 +1,426 @@
+/*
+ * SharedBinPool.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Linear bins that many threads pack into at once without a lock. Each bin
+ * keeps its total in fixed point units and a piece reserves its room with a
+ * compare and set of the total, retrying when another thread changed it
+ * first.
+ * <p>
+ * Bins are spread over shards. A thread looks for the first bin that fits in
+ * its own shard, chosen by a hash of the thread, then in the others, so
+ * threads mostly search, and contend for, different bins. A new bin is opened
+ * in the thread's shard when no bin fits. The shard's lock is only taken to
+ * add the bin, two threads may both open a bin at once.
+ * <p>
+ * A bin that can't fit the smallest piece expected is full and is dropped
+ * from its shard's search, so searches only cost as much as the bins still
+ * open. Full bins are still returned by {@link #getBins}. A piece smaller than
+ * the smallest piece expected may open a new bin where a full bin had room.
+ * <p>
+ * Pieces are rounded up, and capacities down, to whole units of {@code
+ * 1/scale} so a bin never holds more than its capacity.
+ * <p>
+ * A piece is recorded in its bin's pieces after its room is reserved, in a
+ * separate step, so while threads are packing a bin's total may already
+ * include pieces that are not yet in its pieces, and pieces reserved by
+ * different threads may be recorded in either order. Once packing threads
+ * have finished, the pieces of each bin agree with its total.
+ */
+public final class SharedBinPool {
+
+  private static final long DEFAULT_SCALE = 1_000_000L;
+
+  private final double newBinCapacity;
+
+  private final double scale;
+
+  private final long smallestPieceUnits;
+
+  private final Shard[] shards;
+
+  private final AtomicInteger nextShard = new AtomicInteger();
+
+  /**
+   * Creates a pool with a shard per processor and units of a millionth. Bins
+   * are full when they have no units left.
+   *
+   * @param newBinCapacity Capacity of the bins opened when no bin fits.
+   */
+  public SharedBinPool(final double newBinCapacity) {
+
+    this(newBinCapacity, DEFAULT_SCALE,
+         Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a pool whose bins are full when they have no units left.
+   *
+   * @param newBinCapacity Capacity of the bins opened when no bin fits.
+   * @param scale          Units per 1.0 of a piece or capacity.
+   * @param shards         Number of shards, rounded up to a power of two.
+   */
+  public SharedBinPool(final double newBinCapacity,
+                       final long scale,
+                       final int shards) {
+
+    this(newBinCapacity, scale, shards, Double.MIN_VALUE);
+  }
+
+  /**
+   * Creates a pool.
+   *
+   * @param newBinCapacity Capacity of the bins opened when no bin fits.
+   * @param scale          Units per 1.0 of a piece or capacity.
+   * @param shards         Number of shards, rounded up to a power of two.
+   * @param smallestPiece  The smallest piece expected, a bin that can't fit it
+   *                       is no longer searched.
+   */
+  public SharedBinPool(final double newBinCapacity,
+                       final long scale,
+                       final int shards,
+                       final double smallestPiece) {
+
+    if (!(newBinCapacity > 0.0) || scale < 1 || shards < 1 ||
+        !(smallestPiece > 0.0)) {
+      throw new IllegalArgumentException(
+          "Capacity, scale, shards and smallest piece must be positive.");
+    }
+    this.newBinCapacity = newBinCapacity;
+    this.scale = scale;
+    this.smallestPieceUnits = pieceUnits(smallestPiece);
+    final int count = Integer.highestOneBit(shards) == shards
+                      ? shards
+                      : Integer.highestOneBit(shards) << 1;
+    this.shards = new Shard[count];
+    for (int i = 0; i < count; i++) {
+      this.shards[i] = new Shard();
+    }
+  }
+
+  /**
+   * Adds an existing bin, a stock bin with a single capacity. Bins are added
+   * to the shards in turn.
+   *
+   * @param capacity The single capacity of this bin.
+   * @return the bin.
+   */
+  public SharedBin addExistingBin(final double capacity) {
+
+    final SharedBin bin = new SharedBin(this, capacity, true);
+    shards[nextShard.getAndIncrement() & (shards.length - 1)].add(bin);
+    return bin;
+  }
+
+  /**
+   * Packs a piece into the first bin of the thread's shard that fits, then
+   * of the other shards, or into a new bin.
+   *
+   * @param piece the piece to pack.
+   * @return the bin the piece went into.
+   * @exception AssertionError if the piece won't fit a new bin.
+   */
+  public SharedBin pack(final double piece) {
+
+    if (piece < 0.0) {
+      throw new AssertionError("Negative value pieces not allowed: " + piece);
+    }
+    final long units = pieceUnits(piece);
+    final int home = homeShard();
+    for (int i = 0; i < shards.length; i++) {
+      final SharedBin bin =
+          shards[(home + i) & (shards.length - 1)].reserve(units);
+      if (bin != null) {
+        bin.pieces.add(piece);
+        return bin;
+      }
+    }
+    final SharedBin bin = new SharedBin(this, newBinCapacity, false);
+    if (!bin.reserve(units)) {
+      throw new AssertionError("Can't add bin to list of existingBins.");
+    }
+    bin.pieces.add(piece);
+    shards[home].add(bin);
+    return bin;
+  }
+
+  /**
+   * Returns a snapshot of the bins, shard by shard.
+   *
+   * @return the bins.
+   */
+  public List<SharedBin> getBins() {
+
+    final List<SharedBin> bins = new ArrayList<>();
+    for (Shard shard : shards) {
+      final int count = shard.count;
+      bins.addAll(Arrays.asList(shard.bins).subList(0, count));
+    }
+    return bins;
+  }
+
+  /**
+   * Returns the number of bins still searched, those that can fit the
+   * smallest piece expected.
+   *
+   * @return number of open bins.
+   */
+  public int getOpenBinCount() {
+
+    int open = 0;
+    for (Shard shard : shards) {
+      open += shard.open.length;
+    }
+    return open;
+  }
+
+  /**
+   * Returns the number of shards.
+   *
+   * @return number of shards.
+   */
+  public int getShardCount() {
+
+    return shards.length;
+  }
+
+  /**
+   * Chooses the calling thread's shard from a spread hash of the thread.
+   *
+   * @return index of the thread's shard.
+   */
+  private int homeShard() {
+
+    final int h = System.identityHashCode(Thread.currentThread());
+    return (h ^ (h >>> 16)) & (shards.length - 1);
+  }
+
+  long pieceUnits(final double piece) {
+
+    return (long) Math.ceil(piece * scale);
+  }
+
+  long capacityUnits(final double capacity) {
+
+    return (long) Math.floor(capacity * scale);
+  }
+
+  double toDouble(final long units) {
+
+    return units / scale;
+  }
+
+  /**
+   * A group of bins, read without a lock and changed under the shard's. Every
+   * bin is kept in {@code bins}, the bins that are not full are also kept in
+   * {@code open}, which is replaced rather than changed so it can be searched
+   * without a lock.
+   */
+  private final class Shard {
+
+    private volatile SharedBin[] bins = new SharedBin[8];
+
+    private volatile int count;
+
+    private volatile SharedBin[] open = new SharedBin[0];
+
+    SharedBin reserve(final long units) {
+
+      for (SharedBin bin : open) {
+        if (bin.reserve(units)) {
+          if (isFull(bin)) {
+            close(bin);
+          }
+          return bin;
+        }
+      }
+      return null;
+    }
+
+    synchronized void add(final SharedBin bin) {
+
+      SharedBin[] shardBins = bins;
+      if (count == shardBins.length) {
+        shardBins = Arrays.copyOf(shardBins, count << 1);
+      }
+      shardBins[count] = bin;
+      bins = shardBins;
+      count = count + 1;
+      if (!isFull(bin)) {
+        final SharedBin[] openBins = Arrays.copyOf(open, open.length + 1);
+        openBins[open.length] = bin;
+        open = openBins;
+      }
+    }
+
+    /**
+     * Drops a full bin from the search, if it is still there.
+     *
+     * @param bin the full bin.
+     */
+    synchronized void close(final SharedBin bin) {
+
+      final SharedBin[] openBins = open;
+      for (int i = 0; i < openBins.length; i++) {
+        if (openBins[i] == bin) {
+          final SharedBin[] rest = new SharedBin[openBins.length - 1];
+          System.arraycopy(openBins, 0, rest, 0, i);
+          System.arraycopy(openBins, i + 1, rest, i, rest.length - i);
+          open = rest;
+          return;
+        }
+      }
+    }
+
+    private boolean isFull(final SharedBin bin) {
+
+      return bin.capacityUnits - bin.total < smallestPieceUnits;
+    }
+  }
+
+  /**
+   * A bin of a shared pool. Adding reserves room atomically, so bins may be
+   * added to from any thread.
+   */
+  public static final class SharedBin implements Bin<Double, Double> {
+
+    private static final AtomicLongFieldUpdater<SharedBin> TOTAL =
+        AtomicLongFieldUpdater.newUpdater(SharedBin.class, "total");
+
+    private final SharedBinPool pool;
+
+    private final double capacity;
+
+    private final long capacityUnits;
+
+    private final boolean existing;
+
+    private final ConcurrentLinkedQueue<Double> pieces =
+        new ConcurrentLinkedQueue<>();
+
+    private volatile long total;
+
+    SharedBin(final SharedBinPool pool,
+              final double capacity,
+              final boolean existing) {
+
+      this.pool = pool;
+      this.capacity = capacity;
+      this.capacityUnits = pool.capacityUnits(capacity);
+      this.existing = existing;
+    }
+
+    /**
+     * Reserves room for a piece if it fits.
+     *
+     * @param units the piece in units.
+     * @return true if the room was reserved.
+     */
+    boolean reserve(final long units) {
+
+      long current = total;
+      while (current + units <= capacityUnits) {
+        if (TOTAL.compareAndSet(this, current, current + units)) {
+          return true;
+        }
+        current = total;
+      }
+      return false;
+    }
+
+    /**
+     * Reserves room for the piece and records it, if it fits.
+     *
+     * @param piece The piece to add.
+     * @return true if the piece was added.
+     */
+    @Override
+    public boolean add(final Double piece) {
+
+      if (piece < 0.0) {
+        throw new AssertionError("Negative value pieces not allowed: " +
+                                     piece);
+      }
+      if (reserve(pool.pieceUnits(piece))) {
+        pieces.add(piece);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean canFit(final Double piece) {
+
+      return total + pool.pieceUnits(piece) <= capacityUnits;
+    }
+
+    @Override
+    public boolean isExisting() {
+
+      return existing;
+    }
+
+    /**
+     * Returns a snapshot of the pieces recorded so far, which may lag the
+     * total while threads are packing the bin.
+     *
+     * @return the pieces.
+     */
+    @Override
+    public List<Double> getPieces() {
+
+      return Collections.unmodifiableList(new ArrayList<>(pieces));
+    }
+
+    /**
+     * Returns the total, in whole units.
+     *
+     * @return the total.
+     */
+    @Override
+    public Double getTotal() {
+
+      return pool.toDouble(total);
+    }
+
+    @Override
+    public List<Double> getCapacities() {
+
+      return Collections.singletonList(capacity);
+    }
+
+    @Override
+    public Double getMaxRemainingCapacity() {
+
+      return pool.toDouble(capacityUnits - total);
+    }
+
+    @Override
+    public Double getSmallestCapacityNeeded() {
+
+      return capacity;
+    }
+
+    @Override
+    public String toString() {
+
+      return "SharedBin{" + "pieces=" + pieces + ", capacity=" + capacity +
+          ", total=" + getTotal() + ", existing=" + existing + '}';
+    }
+  }
+}
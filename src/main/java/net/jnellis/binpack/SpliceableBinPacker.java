@@ -8,9 +8,16 @@
 
 package net.jnellis.binpack;
 
+import net.jnellis.binpack.preorder.Descending;
+import net.jnellis.binpack.preorder.ParallelDescending;
+import net.jnellis.binpack.preorder.PreOrderPolicy;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A  {@link LinearBinPacker}  that pre-processes input pieces
@@ -21,19 +28,70 @@ import java.util.List;
  * <p>
  * The dividing of pieces too big takes place in-order and before the call to
  * order pieces by the set preOrderPolicy before packing.
+ * <p>
+ * A full length splice can only go in an empty bin of the maximum capacity.
+ * When the pieces are pre-ordered {@link Descending}, or {@link
+ * ParallelDescending}, the full lengths are packed first, each into a new
+ * bin, after the existing bins. So when no existing bin can fit one, {@link
+ * #packAll} puts each full length splice straight into a new bin and only
+ * the remainders and the other pieces go through the packing policy, with the
+ * same result. A piece many times the maximum capacity costs a new bin per
+ * full length rather than a list entry and a search of the bins each. Other
+ * pre-orders interleave the full lengths with the other pieces, which changes
+ * the bins chosen by policies such as {@link
+ * net.jnellis.binpack.packing.NextFit}, so their splices all go through the
+ * packing policy.
  */
 public class SpliceableBinPacker extends LinearBinPacker {
 
+  @Override
+  protected List<Double> splice(final List<Double> pieces,
+                                final List<Double> availableCapacities) {
+
+    return createSplicePieces(pieces, Collections.max(availableCapacities));
+  }
 
   @Override
-  public List<LinearBin> packAll(final List<Double> pieces,
-                                 final List<LinearBin> existingBins,
-                                 final List<Double> availableCapacities) {
-
-    return super.packAll(
-        createSplicePieces(pieces, Collections.max(availableCapacities)),
-        existingBins,
-        availableCapacities);
+  protected List<Double> splice(final List<Double> pieces,
+                                final List<LinearBin> bins,
+                                final List<Double> availableCapacities) {
+
+    if (!packsFullLengthsFirst(getPreOrderPolicy())) {
+      return super.splice(pieces, bins, availableCapacities);
+    }
+    final double maxCapacity = Collections.max(availableCapacities);
+    for (LinearBin bin : bins) {
+      if (bin.canFit(maxCapacity)) {
+        // a full length splice could go in this bin, let the policy choose
+        return super.splice(pieces, bins, availableCapacities);
+      }
+    }
+    final List<Double> remainders = new ArrayList<>(pieces.size());
+    for (Double piece : pieces) {
+      final long whole = fullLengths(piece, maxCapacity);
+      for (long i = 0; i < whole; i++) {
+        addNewBin(maxCapacity, bins, availableCapacities).add(maxCapacity);
+      }
+      final double remainder = piece - whole * maxCapacity;
+      if (remainder > 0.0) {
+        remainders.add(remainder);
+      }
+    }
+    return packLargePieces(remainders, bins, availableCapacities);
+  }
+
+  /**
+   * Whether a pre-order puts every full length splice ahead of the other
+   * pieces, so they are packed first whatever the packing policy.
+   *
+   * @param preOrderPolicy the pre-order of the pieces.
+   * @return true for {@link Descending} or {@link ParallelDescending}, not
+   * for subclasses, which may override their order.
+   */
+  static boolean packsFullLengthsFirst(final PreOrderPolicy<?> preOrderPolicy) {
+
+    final Class<?> type = preOrderPolicy.getClass();
+    return type == Descending.class || type == ParallelDescending.class;
   }
 
   /**
@@ -49,18 +107,54 @@ public class SpliceableBinPacker extends LinearBinPacker {
   public static List<Double> createSplicePieces(final Iterable<Double> pieces,
                                                 final Double maxCapacity) {
 
-    final List<Double> newPieces = new ArrayList<>();
-    for (Double piece : pieces) {
-      while (piece > maxCapacity) {
-        piece = piece - maxCapacity;
-        newPieces.add(maxCapacity);
-      }
-      if (piece > 0.0) {
-        newPieces.add(piece);
-      }
-    }
-    return newPieces;
+    return splicePieces(StreamSupport.stream(pieces.spliterator(), false),
+                        maxCapacity)
+        .collect(Collectors.toList());
   }
 
+  /**
+   * Splices pieces as {@link #createSplicePieces} does, lazily. The splices
+   * of a piece are made as they are consumed, so a piece many times the
+   * maximum capacity is never held as a list of its splices.
+   *
+   * @param pieces      the pieces to splice.
+   * @param maxCapacity the maximum capacity.
+   * @return the spliced pieces, in order.
+   */
+  public static Stream<Double> splicePieces(final Stream<Double> pieces,
+                                            final double maxCapacity) {
 
-}
\ No newline at end of file
+    return pieces.flatMap(piece -> {
+      final long whole = fullLengths(piece, maxCapacity);
+      final double remainder = piece - whole * maxCapacity;
+      final Stream<Double> splices =
+          Stream.generate(() -> maxCapacity).limit(whole);
+      return remainder > 0.0
+             ? Stream.concat(splices, Stream.of(remainder))
+             : splices;
+    });
+  }
+
+  /**
+   * Returns how many full lengths a piece is spliced into, leaving a
+   * remainder of more than zero and at most the maximum capacity.
+   *
+   * @param piece       the piece.
+   * @param maxCapacity the maximum capacity.
+   * @return the number of full lengths, zero if the piece is not too big.
+   */
+  static long fullLengths(final double piece, final double maxCapacity) {
+
+    if (!(piece > maxCapacity)) {
+      return 0L;
+    }
+    long whole = (long) Math.ceil(piece / maxCapacity) - 1;
+    // correct for rounding of the quotient
+    if (piece - whole * maxCapacity > maxCapacity) {
+      whole++;
+    } else if (!(piece - whole * maxCapacity > 0.0)) {
+      whole--;
+    }
+    return whole;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * SpliceableLongBinPacker.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link LongBinPacker} that breaks up pieces larger than the maximum
+ * available capacity as {@link SpliceableBinPacker} does. In whole units the
+ * splices are exact, a piece of k maximum capacities is k full pieces with no
+ * sliver left over. As with {@link SpliceableBinPacker}, full length splices
+ * go straight into new bins when the pieces are pre-ordered descending and no
+ * existing bin can fit one.
+ */
+public class SpliceableLongBinPacker extends LongBinPacker {
+
+  @Override
+  protected List<Long> splice(final List<Long> pieces,
+                              final List<Long> availableCapacities) {
+
+    return createSplicePieces(pieces, Collections.max(availableCapacities));
+  }
+
+  @Override
+  protected List<Long> splice(final List<Long> pieces,
+                              final List<LongBin> bins,
+                              final List<Long> availableCapacities) {
+
+    if (!SpliceableBinPacker.packsFullLengthsFirst(getPreOrderPolicy())) {
+      return splice(pieces, availableCapacities);
+    }
+    final long maxCapacity = Collections.max(availableCapacities);
+    for (LongBin bin : bins) {
+      if (bin.canFit(maxCapacity)) {
+        return splice(pieces, availableCapacities);
+      }
+    }
+    final List<Long> remainders = new ArrayList<>(pieces.size());
+    for (long piece : pieces) {
+      if (piece > maxCapacity) {
+        final long whole = piece / maxCapacity;
+        for (long i = 0; i < whole; i++) {
+          addNewBin(maxCapacity, bins, availableCapacities).add(maxCapacity);
+        }
+        piece -= whole * maxCapacity;
+      }
+      if (piece > 0L) {
+        remainders.add(piece);
+      }
+    }
+    return remainders;
+  }
+
+  /**
+   * Finds and replaces pieces that are longer than the maximum capacity
+   * with however many maximum capacity sized pieces plus a remainder piece.
+   * Natural order is maintained with pieces exploded as they are
+   * iterated through.
+   *
+   * @param pieces      list of pieces to pack
+   * @param maxCapacity the maximum capacity.
+   * @return Returns the new list of <i>pieces</i>.
+   */
+  public static List<Long> createSplicePieces(final Iterable<Long> pieces,
+                                              final long maxCapacity) {
+
+    final List<Long> newPieces = new ArrayList<>();
+    for (long piece : pieces) {
+      if (piece > maxCapacity) {
+        final long whole = piece / maxCapacity;
+        for (long i = 0; i < whole; i++) {
+          newPieces.add(maxCapacity);
+        }
+        piece -= whole * maxCapacity;
+      }
+      if (piece > 0L) {
+        newPieces.add(piece);
+      }
+    }
+    return newPieces;
+  }
+}
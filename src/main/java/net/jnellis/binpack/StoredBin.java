@@ -0,0 +1,150 @@
+/*
+ * StoredBin.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link Bin} view of one bin of a {@link BinStore}. The view holds no
+ * state of its own, every method reads or writes the store's arrays.
+ *
+ * @see BinStore#getBin(int)
+ */
+public final class StoredBin implements Bin<Double, Double> {
+
+  private final BinStore store;
+
+  private final int number;
+
+  StoredBin(final BinStore store, final int number) {
+
+    this.store = store;
+    this.number = number;
+  }
+
+  /**
+   * Returns the store this bin is kept in.
+   *
+   * @return the store.
+   */
+  public BinStore getStore() {
+
+    return store;
+  }
+
+  /**
+   * Returns the number of this bin within its store.
+   *
+   * @return the bin number.
+   */
+  public int getNumber() {
+
+    return number;
+  }
+
+  /**
+   * Automatically calls {@link #canFit } before placing the piece in the bin.
+   *
+   * @param piece The piece to add.
+   * @return true if the piece was added.
+   */
+  @Override
+  public boolean add(final Double piece) {
+
+    return store.add(number, piece);
+  }
+
+  @Override
+  public boolean canFit(final Double piece) {
+
+    return store.canFit(number, piece);
+  }
+
+  /**
+   * Compares remaining capacities without boxing when {@code o} is also a
+   * StoredBin.
+   *
+   * @see #getMaxRemainingCapacity
+   */
+  @Override
+  public int compareTo(final Bin<Double, Double> o) {
+
+    if (o instanceof StoredBin) {
+      final StoredBin other = (StoredBin) o;
+      return Double.compare(store.remaining(number),
+                            other.store.remaining(other.number));
+    }
+    return Bin.super.compareTo(o);
+  }
+
+  @Override
+  public boolean isExisting() {
+
+    return store.isExisting(number);
+  }
+
+  @Override
+  public List<Double> getPieces() {
+
+    return new PieceList();
+  }
+
+  @Override
+  public Double getTotal() {
+
+    return store.getTotal(number);
+  }
+
+  @Override
+  public List<Double> getCapacities() {
+
+    return store.getCapacityList(number);
+  }
+
+  @Override
+  public Double getMaxRemainingCapacity() {
+
+    return store.remaining(number);
+  }
+
+  @Override
+  public Double getSmallestCapacityNeeded() {
+
+    return store.getSmallestCapacityNeeded(number);
+  }
+
+  @Override
+  public String toString() {
+
+    return "StoredBin{" + "number=" + number + ", pieces=" + getPieces() +
+        ", capacities=" + getCapacities() + ", total=" + getTotal() +
+        ", existing=" + isExisting() + '}';
+  }
+
+  /**
+   * A read only view of the pieces, it sees pieces added after it was made.
+   */
+  private final class PieceList extends AbstractList<Double>
+      implements RandomAccess {
+
+    @Override
+    public Double get(final int index) {
+
+      return store.getPiece(number, index);
+    }
+
+    @Override
+    public int size() {
+
+      return store.getPieceCount(number);
+    }
+  }
+}
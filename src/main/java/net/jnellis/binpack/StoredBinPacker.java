@@ -0,0 +1,137 @@
+/*
+ * StoredBinPacker.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack;
+
+import net.jnellis.binpack.preorder.AsIs;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A bin packer for lengths that keeps its bins in a {@link BinStore}. New
+ * bins are added to the store, so packing into the store's own list of
+ * bins, {@link BinStore#getBins()}, fills the store.
+ * <p>
+ * The store's list of bins can't be reordered, so the existing bin
+ * pre-order policy defaults to {@link AsIs}. The capacity profile of new
+ * bins is looked up once per pack, not once per new bin.
+ * <pre>{@code
+ * StoredBinPacker binPacker = new StoredBinPacker();
+ * BinStore store = binPacker.packAll(pieces, Arrays.asList(8d, 12d, 16d));
+ * }</pre>
+ */
+public final class StoredBinPacker
+    extends BinPacker<Double, Double, StoredBin> {
+
+  private final BinStore store;
+
+  /**
+   * The capacities new bins are being made with and their profile, kept for
+   * the length of one pack.
+   */
+  private List<Double> profileCapacities;
+
+  private int profile;
+
+  /**
+   * Creates a packer with an empty store.
+   */
+  public StoredBinPacker() {
+
+    this(new BinStore());
+  }
+
+  /**
+   * Creates a packer that adds new bins to {@code store}.
+   *
+   * @param store the store for new bins.
+   */
+  public StoredBinPacker(final BinStore store) {
+
+    this.store = Objects.requireNonNull(store);
+    setExistingBinPreOrderPolicy(new AsIs<>());
+  }
+
+  /**
+   * Returns the store new bins are added to.
+   *
+   * @return the store.
+   */
+  public BinStore getStore() {
+
+    return store;
+  }
+
+  /**
+   * Packs pieces into the bins of this packer's store.
+   *
+   * @param pieces              List of pieces to be packed.
+   * @param availableCapacities Capacities for new bins.
+   * @return the store.
+   */
+  public BinStore packAll(final List<Double> pieces,
+                          final List<Double> availableCapacities) {
+
+    packAll(pieces, store.getBins(), availableCapacities);
+    return store;
+  }
+
+  @Override
+  public List<StoredBin> packAll(final List<Double> pieces,
+                                 final List<StoredBin> existingBins,
+                                 final List<Double> availableCapacities) {
+
+    try {
+      return super.packAll(pieces, existingBins, availableCapacities);
+    } finally {
+      profileCapacities = null;
+    }
+  }
+
+  @Override
+  public List<StoredBin> pack(final Double piece,
+                              final List<StoredBin> existingBins,
+                              final List<Double> availableCapacities) {
+
+    try {
+      return super.pack(piece, existingBins, availableCapacities);
+    } finally {
+      profileCapacities = null;
+    }
+  }
+
+  /**
+   * Adds a new bin to the store and, unless {@code bins} is the store's own
+   * list, to {@code bins}.
+   *
+   * @param piece               A piece used to assert it would fit a max
+   *                            capacity bin.
+   * @param bins                List of bins.
+   * @param availableCapacities List of capacities that the new bin could be.
+   * @return the new bin.
+   */
+  @Override
+  protected StoredBin addNewBin(final Double piece,
+                                final List<StoredBin> bins,
+                                final List<Double> availableCapacities) {
+
+    if (availableCapacities != profileCapacities) {
+      profile = store.profile(availableCapacities);
+      profileCapacities = availableCapacities;
+    }
+    if (store.getMaxCapacity(profile) < piece) {
+      throw new AssertionError("Can't add bin to list of existingBins.");
+    }
+    final StoredBin theBin = store.getBin(store.addBin(profile));
+    if (bins != store.getBins()) {
+      bins.add(theBin);
+    }
+    return theBin;
+  }
+}
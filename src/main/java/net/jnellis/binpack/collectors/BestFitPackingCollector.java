@@ -27,6 +27,12 @@ import java.util.stream.Collectors;
  * a need to represent the piece being fit as a matching capacity to be compared
  * when traversing the index. This is supplied by the caller as a one to one
  * function taking a piece type and returning a capacity type.
+ * <p>
+ * The collector may be used with parallel streams. Partial results are
+ * merged keeping every bin, bins with the same remaining capacity are queued
+ * together. Optionally, the pieces of less than half full bins of the
+ * smaller partial result are re-packed into the larger one, rather than
+ * keeping many nearly empty bins, one or more per partial result.
  */
 public class BestFitPackingCollector<
     P extends Comparable<P>,
@@ -40,6 +46,11 @@ public class BestFitPackingCollector<
 
   private final Function<P, C> pieceAsCapacity;
 
+  /**
+   * Whether the combiner re-packs underfilled bins.
+   */
+  private final boolean repacking;
+
   /**
    * Collects pieces into bins. New bins are provided by the supplier when
    * requested.
@@ -51,8 +62,26 @@ public class BestFitPackingCollector<
       final Supplier<B> newBinSupplier,
       final Function<P, C> pieceAsCapacity) {
 
+    this(newBinSupplier, pieceAsCapacity, false);
+  }
+
+  /**
+   * Collects pieces into bins. New bins are provided by the supplier when
+   * requested.
+   *
+   * @param newBinSupplier  Supplies new bins, capacities are predetermined.
+   * @param pieceAsCapacity Method to convert a piece type to a capacity type.
+   * @param repacking       Whether combining partial results re-packs the
+   *                        pieces of underfilled bins of the smaller result.
+   */
+  public BestFitPackingCollector(
+      final Supplier<B> newBinSupplier,
+      final Function<P, C> pieceAsCapacity,
+      final boolean repacking) {
+
     this.newBinSupplier = newBinSupplier;
     this.pieceAsCapacity = pieceAsCapacity;
+    this.repacking = repacking;
   }
 
   /**
@@ -101,6 +130,38 @@ public class BestFitPackingCollector<
         pieceAsCapacityFunction);
   }
 
+  /**
+   * Packs pieces like {@link #bestFitPacking(Supplier, Function)}, for
+   * parallel streams. When partial results are combined the pieces of the
+   * less than half full bins of the smaller result are re-packed, best fit,
+   * into the larger result.
+   *
+   * @param newBinSupplier          Supplies new bins when needed.
+   * @param pieceAsCapacityFunction Piece to Capacity conversion function
+   * @param <P>                     The type of piece you are trying to fit
+   *                                into bins
+   * @param <C>                     The type of capacity that represents
+   *                                aggregate pieces.
+   * @param <B>                     The type of bin that has C and
+   *                                takes PIECES.
+   * @return the created collector
+   */
+  public static <P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C> &
+          Comparable<Bin<P, C>> &
+          CapacitySupport<C>>
+  Collector<P, ?, Collection<B>> parallelBestFitPacking(
+      final Supplier<B> newBinSupplier,
+      final Function<P, C> pieceAsCapacityFunction
+  ) {
+
+    return new BestFitPackingCollector<>(
+        newBinSupplier,
+        pieceAsCapacityFunction,
+        true);
+  }
+
   @Override
   public Supplier<NavigableMap<C, ArrayDeque<B>>> supplier() {
 
@@ -141,13 +202,12 @@ public class BestFitPackingCollector<
   private void addNewEntry(final NavigableMap<C, ArrayDeque<B>> binTree,
                            final P piece) {
 
-    // create a new bin and a list to store other bins that have this key.
+    // create a new bin and queue it with other bins that have this key.
     final B bin = newBin().get();
     bin.add(piece);
-    final ArrayDeque<B> bList = new ArrayDeque<>();
-    bList.add(bin);
-    // store this new bin list.
-    binTree.put(bin.getMaxRemainingCapacity(), bList);
+    binTree.computeIfAbsent(bin.getMaxRemainingCapacity(),
+                            donotcare -> new ArrayDeque<>())
+           .add(bin);
 
   }
 
@@ -191,11 +251,62 @@ public class BestFitPackingCollector<
   public BinaryOperator<NavigableMap<C, ArrayDeque<B>>> combiner() {
 
     return (bins, bins2) -> {
-      bins.putAll(bins2);
-      return bins;
+      final boolean larger = count(bins) >= count(bins2);
+      final NavigableMap<C, ArrayDeque<B>> into = larger ? bins : bins2;
+      final NavigableMap<C, ArrayDeque<B>> from = larger ? bins2 : bins;
+      final List<P> repack = new ArrayList<>();
+      from.forEach((key, queue) -> {
+        if (repacking) {
+          for (Iterator<B> it = queue.iterator(); it.hasNext(); ) {
+            final B bin = it.next();
+            if (isUnderfilled(bin)) {
+              repack.addAll(bin.getPieces());
+              it.remove();
+            }
+          }
+        }
+        if (!queue.isEmpty()) {
+          into.merge(key, queue, (queued, more) -> {
+            queued.addAll(more);
+            return queued;
+          });
+        }
+      });
+      repack.sort(Comparator.reverseOrder());
+      repack.forEach(piece -> binpackTree2(into, piece));
+      return into;
     };
   }
 
+  /**
+   * Counts the bins of a partial result.
+   *
+   * @param binTree a partial result.
+   * @return the number of bins.
+   */
+  private static int count(
+      final NavigableMap<?, ? extends Collection<?>> binTree) {
+
+    int count = 0;
+    for (Collection<?> queue : binTree.values()) {
+      count += queue.size();
+    }
+    return count;
+  }
+
+  /**
+   * Determines if a bin may be emptied for re-packing, which is when it is a
+   * new bin with more capacity remaining than it holds.
+   *
+   * @param bin a bin.
+   * @return true if the bin's pieces should be re-packed.
+   */
+  private boolean isUnderfilled(final B bin) {
+
+    return !bin.isExisting() &&
+        bin.getMaxRemainingCapacity().compareTo(bin.getTotal()) > 0;
+  }
+
   @Override
   public Function<NavigableMap<C, ArrayDeque<B>>, Collection<B>> finisher() {
 
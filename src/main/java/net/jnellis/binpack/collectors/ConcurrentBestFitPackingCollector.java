@@ -0,0 +1,253 @@
+/*
+ * ConcurrentBestFitPackingCollector.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors;
+
+import net.jnellis.binpack.Bin;
+import net.jnellis.binpack.CapacitySupport;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A best fit collector whose threads all pack into one shared pool of bins,
+ * so a parallel stream packs about as well as a sequential one instead of
+ * packing each split into bins of its own.
+ * <p>
+ * The pool is a {@link ConcurrentSkipListMap} with one entry per bin keyed
+ * by remaining capacity and the order the bin was queued. A thread claims
+ * the fullest bin that will fit its piece by removing the bin's entry, so
+ * only it adds to the bin, then queues the bin again under its new remaining
+ * capacity. When another thread claims the bin first the search is repeated.
+ * Bins being filled are briefly absent from the pool, a piece packed at that
+ * moment goes to the next best bin.
+ * <p>
+ * The collector is {@link Collector.Characteristics#CONCURRENT} and {@link
+ * Collector.Characteristics#UNORDERED}. The bin supplier is called from
+ * several threads and must be thread safe, {@link
+ * net.jnellis.binpack.LinearBin#newBinSupplier} is. The accumulation is a
+ * read only collection of the pool's bins, only the collector's own supplier
+ * makes one it can pack into.
+ */
+public class ConcurrentBestFitPackingCollector<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    implements BinPackCollector<P, C, B, Collection<B>> {
+
+  private static final Set<Characteristics> CHARACTERISTICS =
+      Collections.unmodifiableSet(EnumSet.of(Characteristics.CONCURRENT,
+                                             Characteristics.UNORDERED));
+
+  private final Supplier<B> newBinSupplier;
+
+  private final Function<P, C> pieceAsCapacity;
+
+  /**
+   * Collects pieces into one shared pool of bins. New bins are provided by
+   * the supplier when requested.
+   *
+   * @param newBinSupplier  Supplies new bins, capacities are predetermined.
+   *                        Must be thread safe.
+   * @param pieceAsCapacity Method to convert a piece type to a capacity type.
+   */
+  public ConcurrentBestFitPackingCollector(
+      final Supplier<B> newBinSupplier,
+      final Function<P, C> pieceAsCapacity) {
+
+    this.newBinSupplier = newBinSupplier;
+    this.pieceAsCapacity = pieceAsCapacity;
+  }
+
+  /**
+   * Packs pieces by choosing the fullest bin that still has remaining
+   * capacity enough to fit the next piece, sharing bins between the threads
+   * of a parallel stream.
+   *
+   * @param newBinSupplier          Supplies new bins when needed, must be
+   *                                thread safe.
+   * @param pieceAsCapacityFunction Piece to Capacity conversion function
+   * @param <P>                     The type of piece you are trying to fit
+   *                                into bins
+   * @param <C>                     The type of capacity that represents
+   *                                aggregate pieces.
+   * @param <B>                     The type of bin that has C and
+   *                                takes PIECES.
+   * @return the created collector
+   * @see BestFitPackingCollector#bestFitPacking
+   */
+  public static <P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C> &
+          Comparable<Bin<P, C>> &
+          CapacitySupport<C>>
+  Collector<P, ?, Collection<B>> concurrentBestFitPacking(
+      final Supplier<B> newBinSupplier,
+      final Function<P, C> pieceAsCapacityFunction
+  ) {
+
+    return new ConcurrentBestFitPackingCollector<>(
+        newBinSupplier,
+        pieceAsCapacityFunction);
+  }
+
+  @Override
+  public Supplier<Collection<B>> supplier() {
+
+    return BinPool::new;
+  }
+
+  @Override
+  public BiConsumer<Collection<B>, P> accumulator() {
+
+    return (pool, piece) -> pack(pool(pool), piece);
+  }
+
+  /**
+   * Returns the pool behind an accumulation made by {@link #supplier}.
+   *
+   * @param bins the accumulation.
+   * @return the pool.
+   */
+  @SuppressWarnings("unchecked")
+  private BinPool<C, B> pool(final Collection<B> bins) {
+
+    return (BinPool<C, B>) bins;
+  }
+
+  /**
+   * Claims the fullest bin that fits the piece, or a new bin, adds the piece
+   * and queues the bin again.
+   *
+   * @param pool  the shared bins.
+   * @param piece The piece to pack
+   */
+  private void pack(final BinPool<C, B> pool, final P piece) {
+
+    final Slot<C> least = new Slot<>(pieceAsCapacity(piece), Long.MIN_VALUE);
+    B bin = null;
+    while (bin == null) {
+      final Map.Entry<Slot<C>, B> entry = pool.bins.ceilingEntry(least);
+      if (entry == null) {
+        bin = newBin().get();
+      } else if (pool.bins.remove(entry.getKey(), entry.getValue())) {
+        bin = entry.getValue();
+      }
+    }
+    assert bin.canFit(piece);
+    bin.add(piece);
+    pool.queue(bin);
+  }
+
+  @Override
+  public Supplier<B> newBin() {
+
+    return newBinSupplier;
+  }
+
+  @Override
+  public C pieceAsCapacity(final P piece) {
+
+    return pieceAsCapacity.apply(piece);
+  }
+
+  @Override
+  public BinaryOperator<Collection<B>> combiner() {
+
+    return (pool, pool2) -> {
+      pool2.forEach(pool(pool)::queue);
+      return pool;
+    };
+  }
+
+  @Override
+  public Function<Collection<B>, Collection<B>> finisher() {
+
+    return ArrayList::new;
+  }
+
+  /**
+   * @return the CONCURRENT and UNORDERED characteristics.
+   */
+  @Override
+  public Set<Characteristics> characteristics() {
+
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * The shared bins of a collection, by remaining capacity and then the
+   * order they were queued. As a collection it is a read only view of the
+   * bins.
+   *
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  private static final class BinPool<
+      C extends Comparable<C>,
+      B extends Bin<?, C>>
+      extends AbstractCollection<B> {
+
+    private final ConcurrentSkipListMap<Slot<C>, B> bins =
+        new ConcurrentSkipListMap<>(Comparator.<Slot<C>, C>comparing(
+            slot -> slot.remaining).thenComparingLong(slot -> slot.order));
+
+    private final AtomicLong queued = new AtomicLong();
+
+    private void queue(final B bin) {
+
+      bins.put(new Slot<>(bin.getMaxRemainingCapacity(),
+                          queued.getAndIncrement()),
+               bin);
+    }
+
+    @Override
+    public Iterator<B> iterator() {
+
+      return Collections.unmodifiableCollection(bins.values()).iterator();
+    }
+
+    @Override
+    public int size() {
+
+      return bins.size();
+    }
+  }
+
+  /**
+   * The key of a bin in a pool.
+   *
+   * @param <C> capacity type
+   */
+  private static final class Slot<C> {
+
+    private final C remaining;
+
+    private final long order;
+
+    Slot(final C remaining, final long order) {
+
+      this.remaining = remaining;
+      this.order = order;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * HarmonicPackingCollector.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors;
+
+import net.jnellis.binpack.Bin;
+import net.jnellis.binpack.CapacitySupport;
+import net.jnellis.binpack.packing.HarmonicFit;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A collector that packs the way {@link HarmonicFit} does, one open bin per
+ * size class, so each piece is packed in constant time. Bins of another
+ * partial result are not reused when results are combined.
+ *
+ * @param <B> bin type
+ */
+public class HarmonicPackingCollector<B extends Bin<Double, Double>>
+    extends ListPackingCollector<Double, Double, B> {
+
+  private final HarmonicFit<B> harmonicFit;
+
+  /**
+   * Collects pieces into bins. New bins are provided by the supplier when
+   * requested.
+   *
+   * @param newBinSupplier Supplies new bins, capacities are predetermined.
+   * @param classes        the number of size classes, k, at least one.
+   * @param capacity       the bin capacity pieces are sized against.
+   * @exception IllegalArgumentException if there are no classes or the
+   *                                     capacity is not positive.
+   */
+  public HarmonicPackingCollector(final Supplier<B> newBinSupplier,
+                                  final int classes,
+                                  final double capacity) {
+
+    super(newBinSupplier, Function.identity());
+    this.harmonicFit = new HarmonicFit<>(classes, capacity);
+  }
+
+  /**
+   * Packs pieces with one open bin per size class.
+   *
+   * @param newBinSupplier Supplies new bins when needed.
+   * @param classes        the number of size classes, k, at least one.
+   * @param capacity       the bin capacity pieces are sized against, usually
+   *                       the largest capacity of new bins.
+   * @param <B>            The type of bin that takes Double pieces.
+   * @return the created collector
+   */
+  public static <B extends Bin<Double, Double> &
+      Comparable<Bin<Double, Double>> &
+      CapacitySupport<Double>>
+  Collector<Double, ?, Collection<B>> harmonicPacking(
+      final Supplier<B> newBinSupplier,
+      final int classes,
+      final double capacity
+  ) {
+
+    return new HarmonicPackingCollector<>(newBinSupplier, classes, capacity);
+  }
+
+  @Override
+  PackedBins<Double, Double, B> newPackedBins() {
+
+    return new PackedBins<Double, Double, B>() {
+
+      /**
+       * List index of the open bin by class, -1 when there is none.
+       */
+      private final int[] open = filled(new int[harmonicFit.getClasses() + 1]);
+
+      /**
+       * Class of the next new bin, -1 for bins appended by the combiner.
+       */
+      private int opening = -1;
+
+      @Override
+      int choose(final Double piece) {
+
+        final int sizeClass = harmonicFit.sizeClass(piece);
+        final int index = open[sizeClass];
+        if (index >= 0 && bins.get(index).canFit(piece)) {
+          return index;
+        }
+        opening = sizeClass;
+        return -1;
+      }
+
+      @Override
+      void appended(final int index) {
+
+        if (opening >= 0) {
+          open[opening] = index;
+          opening = -1;
+        }
+      }
+
+      @Override
+      void updated(final int index) {
+
+      }
+    };
+  }
+
+  private static int[] filled(final int[] open) {
+
+    Arrays.fill(open, -1);
+    return open;
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * ListPackingCollector.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors;
+
+import net.jnellis.binpack.Bin;
+import net.jnellis.binpack.packing.PackingPolicy;
+import net.jnellis.binpack.packing.PackingSession;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base class for collectors that keep their bins in a list, in the order they
+ * were made, along with an index suited to their packing policy. Partial
+ * results are combined by appending the bins of the second to the first.
+ * A partial result is seen from outside as a read-only list of its bins.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+abstract class ListPackingCollector<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    implements BinPackCollector<P, C, B, List<B>> {
+
+  private final Supplier<B> newBinSupplier;
+
+  private final Function<P, C> pieceAsCapacity;
+
+  /**
+   * Collects pieces into bins. New bins are provided by the supplier when
+   * requested.
+   *
+   * @param newBinSupplier  Supplies new bins, capacities are predetermined.
+   * @param pieceAsCapacity Method to convert a piece type to a capacity type.
+   */
+  ListPackingCollector(final Supplier<B> newBinSupplier,
+                       final Function<P, C> pieceAsCapacity) {
+
+    this.newBinSupplier = newBinSupplier;
+    this.pieceAsCapacity = pieceAsCapacity;
+  }
+
+  /**
+   * Creates the empty bins and index of a partial result.
+   *
+   * @return an empty result.
+   */
+  abstract PartialBins<P, C, B> newPackedBins();
+
+  @Override
+  public Supplier<List<B>> supplier() {
+
+    return this::newPackedBins;
+  }
+
+  @Override
+  public BiConsumer<List<B>, P> accumulator() {
+
+    return (bins, piece) -> packed(bins).pack(piece, newBin());
+  }
+
+  @Override
+  public BinaryOperator<List<B>> combiner() {
+
+    return (bins, bins2) -> {
+      bins2.forEach(packed(bins)::append);
+      return bins;
+    };
+  }
+
+  @Override
+  public Function<List<B>, Collection<B>> finisher() {
+
+    return bins -> packed(bins).bins;
+  }
+
+  /**
+   * Returns the partial result behind a list made by {@link #supplier}.
+   *
+   * @param bins the list.
+   * @return the partial result.
+   */
+  @SuppressWarnings("unchecked")
+  private PartialBins<P, C, B> packed(final List<B> bins) {
+
+    return (PartialBins<P, C, B>) bins;
+  }
+
+  @Override
+  public Supplier<B> newBin() {
+
+    return newBinSupplier;
+  }
+
+  @Override
+  public C pieceAsCapacity(final P piece) {
+
+    return pieceAsCapacity.apply(piece);
+  }
+
+  /**
+   * The bins of a partial result. Read-only as a list; bins are only added by
+   * packing or appending.
+   *
+   * @param <P> piece type
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  abstract static class PartialBins<
+      P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C>> extends AbstractList<B> {
+
+    final List<B> bins = new ArrayList<>();
+
+    @Override
+    public B get(final int index) {
+
+      return bins.get(index);
+    }
+
+    @Override
+    public int size() {
+
+      return bins.size();
+    }
+
+    /**
+     * Adds a piece to the chosen bin or to a new bin.
+     *
+     * @param piece  The piece to pack.
+     * @param newBin Supplies a new bin when none is chosen.
+     */
+    abstract void pack(P piece, Supplier<B> newBin);
+
+    /**
+     * Adds a bin of another partial result to the end of the list.
+     *
+     * @param bin the bin.
+     */
+    abstract void append(B bin);
+  }
+
+  /**
+   * The bins of a partial result and the index used to choose among them.
+   *
+   * @param <P> piece type
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  abstract static class PackedBins<
+      P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C>> extends PartialBins<P, C, B> {
+
+    @Override
+    void pack(final P piece, final Supplier<B> newBin) {
+
+      final int index = choose(piece);
+      if (index < 0) {
+        final B bin = newBin.get();
+        assert bin.canFit(piece);
+        bin.add(piece);
+        append(bin);
+      } else {
+        final B bin = bins.get(index);
+        assert bin.canFit(piece);
+        bin.add(piece);
+        updated(index);
+      }
+    }
+
+    @Override
+    void append(final B bin) {
+
+      bins.add(bin);
+      appended(bins.size() - 1);
+    }
+
+    /**
+     * Chooses a bin for the piece.
+     *
+     * @param piece The piece to be fitted.
+     * @return the list index of the bin or -1 for a new bin.
+     */
+    abstract int choose(P piece);
+
+    /**
+     * Indexes a bin appended to the list.
+     *
+     * @param index list index of the bin.
+     */
+    abstract void appended(int index);
+
+    /**
+     * Re-indexes the chosen bin after it received a piece.
+     *
+     * @param index list index of the bin.
+     */
+    abstract void updated(int index);
+  }
+
+  /**
+   * Bins indexed by a max heap of remaining capacity, the first made of
+   * equally empty bins first. A chosen bin is polled from the heap and is
+   * queued again once it received its piece.
+   *
+   * @param <P> piece type
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  abstract static class HeapPackedBins<
+      P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C>>
+      extends PackedBins<P, C, B> {
+
+    final PriorityQueue<Integer> heap = new PriorityQueue<>((a, b) -> {
+      final int emptier = bins.get(b).compareTo(bins.get(a));
+      return emptier != 0 ? emptier : Integer.compare(a, b);
+    });
+
+    @Override
+    void appended(final int index) {
+
+      heap.add(index);
+    }
+
+    @Override
+    void updated(final int index) {
+
+      heap.add(index);
+    }
+  }
+
+  /**
+   * The bins of a partial result chosen among by a session of a packing
+   * policy, which keeps whatever index the policy needs.
+   *
+   * @param <P> piece type
+   * @param <C> capacity type
+   * @param <B> bin type
+   */
+  static final class SessionPackedBins<
+      P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C>>
+      extends PartialBins<P, C, B> {
+
+    private final PackingSession<P, C, B> session;
+
+    /**
+     * Creates empty bins packed by a session of {@code policy}.
+     *
+     * @param policy the packing policy.
+     */
+    SessionPackedBins(final PackingPolicy<P, C, B> policy) {
+
+      this.session = policy.begin(bins);
+    }
+
+    @Override
+    void pack(final P piece, final Supplier<B> newBin) {
+
+      B bin = session.chooseBin(piece).orElse(null);
+      if (bin == null) {
+        bin = newBin.get();
+        bins.add(bin);
+        session.binAdded(bin);
+      }
+      assert bin.canFit(piece);
+      bin.add(piece);
+      session.pieceAdded(bin, piece);
+    }
+
+    @Override
+    void append(final B bin) {
+
+      bins.add(bin);
+      session.binAdded(bin);
+    }
+  }
+}
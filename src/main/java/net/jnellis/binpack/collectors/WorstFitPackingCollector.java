@@ -0,0 +1,89 @@
+/*
+ * WorstFitPackingCollector.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors;
+
+import net.jnellis.binpack.Bin;
+import net.jnellis.binpack.CapacitySupport;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A collector that packs each piece into the emptiest bin, the first made of
+ * equally empty bins, when it fits. Bins are kept in a max heap of remaining
+ * capacity so the emptiest bin is found in O(1) and re-queued in O(log
+ * bins).
+ */
+public class WorstFitPackingCollector<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    extends ListPackingCollector<P, C, B> {
+
+  /**
+   * Collects pieces into bins. New bins are provided by the supplier when
+   * requested.
+   *
+   * @param newBinSupplier  Supplies new bins, capacities are predetermined.
+   * @param pieceAsCapacity Method to convert a piece type to a capacity type.
+   */
+  public WorstFitPackingCollector(final Supplier<B> newBinSupplier,
+                                  final Function<P, C> pieceAsCapacity) {
+
+    super(newBinSupplier, pieceAsCapacity);
+  }
+
+  /**
+   * Packs pieces the way {@link net.jnellis.binpack.packing.WorstFit} does,
+   * without buffering the stream.
+   *
+   * @param newBinSupplier          Supplies new bins when needed.
+   * @param pieceAsCapacityFunction Piece to Capacity conversion function
+   * @param <P>                     The type of piece you are trying to fit
+   *                                into bins
+   * @param <C>                     The type of capacity that represents
+   *                                aggregate pieces.
+   * @param <B>                     The type of bin that has C and
+   *                                takes PIECES.
+   * @return the created collector
+   */
+  public static <P extends Comparable<P>,
+      C extends Comparable<C>,
+      B extends Bin<P, C> &
+          Comparable<Bin<P, C>> &
+          CapacitySupport<C>>
+  Collector<P, ?, Collection<B>> worstFitPacking(
+      final Supplier<B> newBinSupplier,
+      final Function<P, C> pieceAsCapacityFunction
+  ) {
+
+    return new WorstFitPackingCollector<>(
+        newBinSupplier,
+        pieceAsCapacityFunction);
+  }
+
+  @Override
+  PackedBins<P, C, B> newPackedBins() {
+
+    return new HeapPackedBins<P, C, B>() {
+
+      @Override
+      int choose(final P piece) {
+
+        final Integer emptiest = heap.peek();
+        if (emptiest == null || !bins.get(emptiest).canFit(piece)) {
+          return -1;
+        }
+        return heap.poll();
+      }
+    };
+  }
+}
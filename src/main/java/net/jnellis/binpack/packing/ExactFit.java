@@ -0,0 +1,236 @@
+/*
+ * ExactFit.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Chooses a bin the piece exactly fills, when there is one, before falling
+ * back to another policy. Bins are hashed by their remaining capacity so a
+ * bin that the piece completes is found in constant time rather than by a
+ * search, as in a 2400 offcut taking a 3600 piece of 6000 stock. With pieces
+ * in decreasing order a piece opening a bin is matched as soon as its
+ * complement comes along.
+ * <p>
+ * Remaining capacities may be matched on a grid of a given tolerance, a bin
+ * whose remaining capacity rounds to the same multiple of the tolerance as
+ * the piece being an exact fit if it can fit the piece. With no tolerance
+ * remaining capacities must equal the piece. An exact fit is the fullest bin
+ * that fits, so wrapping {@link BestFit} chooses as it does, other than which
+ * of several exact fits is chosen, but in constant time for those pieces.
+ * <p>
+ * Within a {@link PackingSession} the hash is kept by the session, and the
+ * fallback's session is told of every bin added, removed and every piece
+ * added, including those to exact fits it did not choose, so an indexed
+ * fallback stays up to date. Calls to
+ * {@link #chooseBin} outside of a session hash every bin, which takes
+ * O(bins).
+ *
+ * @param <B> bin type
+ */
+public class ExactFit<B extends Bin<Double, Double>>
+    implements PackingPolicy<Double, Double, B> {
+
+  private final PackingPolicy<Double, Double, B> fallback;
+
+  private final double tolerance;
+
+  /**
+   * Creates a policy matching remaining capacities exactly.
+   *
+   * @param fallback the policy choosing bins when no bin is an exact fit.
+   */
+  public ExactFit(final PackingPolicy<Double, Double, B> fallback) {
+
+    this(fallback, 0.0);
+  }
+
+  /**
+   * Creates a policy matching remaining capacities on a grid.
+   *
+   * @param fallback  the policy choosing bins when no bin is an exact fit.
+   * @param tolerance the grid spacing, zero to match exactly.
+   * @exception IllegalArgumentException if the tolerance is negative.
+   */
+  public ExactFit(final PackingPolicy<Double, Double, B> fallback,
+                  final double tolerance) {
+
+    if (!(tolerance >= 0.0)) {
+      throw new IllegalArgumentException("Tolerance can't be negative: " +
+                                             tolerance);
+    }
+    this.fallback = fallback;
+    this.tolerance = tolerance;
+  }
+
+  /**
+   * Returns the policy choosing bins when no bin is an exact fit.
+   *
+   * @return the fallback policy.
+   */
+  public PackingPolicy<Double, Double, B> getFallback() {
+
+    return fallback;
+  }
+
+  /**
+   * Returns the grid spacing remaining capacities are matched on.
+   *
+   * @return the tolerance, zero when matched exactly.
+   */
+  public double getTolerance() {
+
+    return tolerance;
+  }
+
+  /**
+   * Returns the hash key of a length, its grid point or its exact value.
+   *
+   * @param length a piece or remaining capacity.
+   * @return the key.
+   */
+  long key(final double length) {
+
+    return tolerance > 0.0
+           ? Math.round(length / tolerance)
+           : Double.doubleToLongBits(length + 0.0);
+  }
+
+  /**
+   * Choose a bin the piece exactly fills, or the bin of the fallback policy.
+   *
+   * @param piece        The piece to be fitted into an existing bin.
+   * @param existingBins List of existing bins where the piece could fit.
+   * @return Returns an Optional bin that represents the bin it found, or not.
+   */
+  @Override
+  public Optional<B> chooseBin(final Double piece,
+                               final List<B> existingBins) {
+
+    return begin(existingBins).chooseBin(piece);
+  }
+
+  @Override
+  public PackingSession<Double, Double, B> begin(final List<B> existingBins) {
+
+    return new ExactFitSession(existingBins);
+  }
+
+  /**
+   * A session keeping bins hashed by remaining capacity alongside a session
+   * of the fallback policy.
+   */
+  private final class ExactFitSession
+      implements PackingSession<Double, Double, B> {
+
+    private final PackingSession<Double, Double, B> fallbackSession;
+
+    /**
+     * Bins by the key of their remaining capacity, in the order they were
+     * hashed.
+     */
+    private final Map<Long, List<B>> byRemaining = new HashMap<>();
+
+    private final Map<B, Long> keys = new IdentityHashMap<>();
+
+    ExactFitSession(final List<B> bins) {
+
+      this.fallbackSession = fallback.begin(bins);
+      for (B bin : bins) {
+        rehash(bin);
+      }
+    }
+
+    @Override
+    public Optional<B> chooseBin(final Double piece) {
+
+      final List<B> matches = byRemaining.get(key(piece));
+      if (matches != null) {
+        for (B bin : matches) {
+          if (bin.canFit(piece)) {
+            return Optional.of(bin);
+          }
+        }
+      }
+      return fallbackSession.chooseBin(piece);
+    }
+
+    @Override
+    public void binAdded(final B bin) {
+
+      fallbackSession.binAdded(bin);
+      rehash(bin);
+    }
+
+    @Override
+    public void pieceAdded(final B bin, final Double piece) {
+
+      fallbackSession.pieceAdded(bin, piece);
+      rehash(bin);
+    }
+
+    @Override
+    public void binRemoved(final B bin) {
+
+      fallbackSession.binRemoved(bin);
+      unhash(bin);
+    }
+
+    @Override
+    public void end() {
+
+      fallbackSession.end();
+      byRemaining.clear();
+      keys.clear();
+    }
+
+    /**
+     * Moves a bin to the key of its remaining capacity, dropping it once it
+     * is full.
+     */
+    private void rehash(final B bin) {
+
+      unhash(bin);
+      final double remaining = bin.getMaxRemainingCapacity();
+      if (remaining > 0.0) {
+        final long key = key(remaining);
+        keys.put(bin, key);
+        byRemaining.computeIfAbsent(key, k -> new ArrayList<>()).add(bin);
+      }
+    }
+
+    /**
+     * Drops a bin from the key it was hashed under, if any.
+     */
+    private void unhash(final B bin) {
+
+      final Long old = keys.remove(bin);
+      if (old != null) {
+        final List<B> bins = byRemaining.get(old);
+        // bins are removed by identity, bins of equal value are distinct
+        for (int i = 0; i < bins.size(); i++) {
+          if (bins.get(i) == bin) {
+            bins.remove(i);
+            break;
+          }
+        }
+        if (bins.isEmpty()) {
+          byRemaining.remove(old);
+        }
+      }
+    }
+  }
+}
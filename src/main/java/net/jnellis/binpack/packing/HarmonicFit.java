@@ -0,0 +1,185 @@
+/*
+ * HarmonicFit.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Harmonic-k packing. Each piece is put in a size class by its size relative
+ * to a bin capacity: class j, for j less than k, holds pieces in (1/(j+1),
+ * 1/j] of the capacity and class k holds pieces of at most 1/k. One bin is
+ * kept open per class and a piece only ever goes to its class's open bin, a
+ * new bin being opened, and the old one left, when it doesn't fit. So a bin
+ * of class j, for j less than k, takes exactly j pieces and choosing a bin is
+ * constant time, there is no search of the bins.
+ * <p>
+ * Within a {@link PackingSession} the open bins are kept by the session.
+ * Calls to {@link #chooseBin} outside of a session find the open bins again,
+ * each bin being of the class of its first piece, which takes O(bins).
+ * Existing bins are never chosen.
+ *
+ * @param <B> bin type
+ */
+public class HarmonicFit<B extends Bin<Double, Double>>
+    implements PackingPolicy<Double, Double, B> {
+
+  private final int classes;
+
+  private final double capacity;
+
+  /**
+   * Creates a Harmonic-k policy.
+   *
+   * @param classes  the number of size classes, k, at least one.
+   * @param capacity the bin capacity pieces are sized against, usually the
+   *                 largest capacity of new bins.
+   * @exception IllegalArgumentException if there are no classes or the
+   *                                     capacity is not positive.
+   */
+  public HarmonicFit(final int classes, final double capacity) {
+
+    if (classes < 1) {
+      throw new IllegalArgumentException("At least one class: " + classes);
+    }
+    if (!(capacity > 0.0)) {
+      throw new IllegalArgumentException("Capacity must be positive: " +
+                                             capacity);
+    }
+    this.classes = classes;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the size class of a piece, from 1 for pieces over half the
+   * capacity to {@code classes} for the smallest pieces.
+   *
+   * @param piece    the piece.
+   * @param capacity the bin capacity.
+   * @param classes  the number of size classes.
+   * @return the size class.
+   */
+  public static int sizeClass(final double piece,
+                              final double capacity,
+                              final int classes) {
+
+    // a piece in (1/(j+1), 1/j] of the capacity is in class j
+    final double fits = capacity / piece;
+    return fits >= classes ? classes : Math.max(1, (int) fits);
+  }
+
+  /**
+   * Returns the size class of a piece.
+   *
+   * @param piece the piece.
+   * @return the size class.
+   */
+  public int sizeClass(final double piece) {
+
+    return sizeClass(piece, capacity, classes);
+  }
+
+  /**
+   * Returns the number of size classes.
+   *
+   * @return k.
+   */
+  public int getClasses() {
+
+    return classes;
+  }
+
+  /**
+   * Returns the bin capacity pieces are sized against.
+   *
+   * @return the capacity.
+   */
+  public double getCapacity() {
+
+    return capacity;
+  }
+
+  /**
+   * Chooses the open bin of the piece's class if it fits.
+   *
+   * @param piece        The piece to be fitted into an existing bin.
+   * @param existingBins List of existing bins where the piece could fit.
+   * @return Returns an Optional bin that represents the bin it found, or not.
+   */
+  @Override
+  public Optional<B> chooseBin(final Double piece,
+                               final List<B> existingBins) {
+
+    return begin(existingBins).chooseBin(piece);
+  }
+
+  @Override
+  public PackingSession<Double, Double, B> begin(final List<B> existingBins) {
+
+    return new HarmonicSession(existingBins);
+  }
+
+  /**
+   * A session keeping the open bin of each class.
+   */
+  private final class HarmonicSession
+      implements PackingSession<Double, Double, B> {
+
+    /**
+     * Open bin by class, index 0 is unused.
+     */
+    private final Object[] open = new Object[classes + 1];
+
+    /**
+     * Class of the piece for which no bin was chosen, the class of the next
+     * new bin.
+     */
+    private int opening;
+
+    HarmonicSession(final List<B> bins) {
+
+      for (B bin : bins) {
+        if (!bin.isExisting() && !bin.getPieces().isEmpty()) {
+          open[sizeClass(bin.getPieces().get(0))] = bin;
+        }
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<B> chooseBin(final Double piece) {
+
+      final int sizeClass = sizeClass(piece);
+      final B bin = (B) open[sizeClass];
+      if (bin != null && bin.canFit(piece)) {
+        return Optional.of(bin);
+      }
+      opening = sizeClass;
+      return Optional.empty();
+    }
+
+    @Override
+    public void binAdded(final B bin) {
+
+      open[opening] = bin;
+    }
+
+    @Override
+    public void binRemoved(final B bin) {
+
+      for (int i = 1; i < open.length; i++) {
+        if (open[i] == bin) {
+          open[i] = null;
+        }
+      }
+    }
+  }
+}
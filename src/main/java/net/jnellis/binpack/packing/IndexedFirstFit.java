@@ -0,0 +1,59 @@
+/*
+ * IndexedFirstFit.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.List;
+
+/**
+ * Choose the first bin that will fit, using a {@link RemainingCapacityTree}
+ * instead of scanning every bin. Chooses the same bins as {@link FirstFit}
+ * for bins whose {@code canFit} agrees with their remaining capacity, as
+ * {@link net.jnellis.binpack.LinearBin} does, in O(log bins) per piece.
+ */
+public class IndexedFirstFit<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    extends IndexedPackingPolicy<P, C, B> {
+
+  @Override
+  protected BinIndex<P> index(final List<B> bins) {
+
+    final RemainingCapacityTree<P, C, B> tree =
+        new RemainingCapacityTree<>(bins);
+
+    return new BinIndex<P>() {
+      @Override
+      public void update(final int index) {
+
+        tree.update(index);
+      }
+
+      @Override
+      public void append(final int index) {
+
+        tree.append();
+      }
+
+      @Override
+      public void remove(final int index) {
+
+        tree.remove(index);
+      }
+
+      @Override
+      public int choose(final P piece) {
+
+        return tree.firstFit(piece);
+      }
+    };
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * IndexedPackingPolicy.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for packing policies that keep an index of the bins they choose
+ * from instead of searching every bin for each piece.
+ * <p>
+ * Each {@link PackingSession} started with {@link #begin} owns its index, so
+ * one policy may be shared between packers and threads. A session re-indexes
+ * whichever bin it is told took a piece, {@link PackingSession#pieceAdded},
+ * chosen by the session or not, and indexes bins appended to the list, so
+ * the bins must only change through the session's notifications.
+ * <p>
+ * A session indexes bins by their place in its own copy of the list, so a
+ * bin removed from the list, {@link PackingSession#binRemoved}, is dropped
+ * from the index in O(log bins) and leaves a gap rather than moving the bins
+ * after it. Once the gaps outnumber the bins the copy is compacted and
+ * re-indexed, which keeps removals O(log bins) amortized.
+ * <p>
+ * Calls to {@link #chooseBin} outside of a session, such as those of {@link
+ * net.jnellis.binpack.BinPacker#pack}, index the whole list for each call,
+ * which takes O(bins log bins).
+ */
+abstract class IndexedPackingPolicy<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    implements PackingPolicy<P, C, B> {
+
+  /**
+   * Chooses a bin from a new index of {@code existingBins}.
+   *
+   * @param piece        The piece to be fitted into an existing bin.
+   * @param existingBins List of existing bins where the piece could fit.
+   * @return Returns an Optional bin that represents the bin it found, or not.
+   */
+  @Override
+  public final Optional<B> chooseBin(final P piece,
+                                     final List<B> existingBins) {
+
+    return new IndexedSession(existingBins).chooseBin(piece);
+  }
+
+  @Override
+  public PackingSession<P, C, B> begin(final List<B> existingBins) {
+
+    return new IndexedSession(existingBins);
+  }
+
+  /**
+   * Creates an index over every bin in {@code bins}.
+   *
+   * @param bins the bins to index.
+   * @return the new index.
+   */
+  protected abstract BinIndex<P> index(List<B> bins);
+
+  /**
+   * The operations a policy's index provides to its sessions.
+   *
+   * @param <P> piece type
+   */
+  interface BinIndex<P> {
+
+    /**
+     * Drops a bin from the index, the indexes of other bins don't change.
+     *
+     * @param index list index of the bin.
+     */
+    void remove(int index);
+
+    /**
+     * Re-indexes a bin that received a piece.
+     *
+     * @param index list index of the bin.
+     */
+    void update(int index);
+
+    /**
+     * Indexes a bin that was appended to the list.
+     *
+     * @param index list index of the new bin.
+     */
+    void append(int index);
+
+    /**
+     * Chooses a bin for {@code piece}.
+     *
+     * @param piece The piece to be fitted.
+     * @return the list index of the chosen bin or -1 if none will fit.
+     */
+    int choose(P piece);
+  }
+
+  /**
+   * A session that keeps its own index over one list of bins.
+   */
+  private final class IndexedSession implements PackingSession<P, C, B> {
+
+    private final List<B> bins;
+
+    /**
+     * The indexed bins by their index, null where a bin was removed.
+     */
+    private List<B> slots;
+
+    private BinIndex<P> index;
+
+    /**
+     * Number of bins of the list that are indexed.
+     */
+    private int indexed;
+
+    /**
+     * Number of removed bins still holding a slot.
+     */
+    private int removed;
+
+    /**
+     * Slot of the last bin chosen, the likely bin to take a piece.
+     */
+    private int lastChosen = -1;
+
+    IndexedSession(final List<B> bins) {
+
+      this.bins = bins;
+      reindex();
+    }
+
+    @Override
+    public Optional<B> chooseBin(final P piece) {
+
+      appendNewBins();
+      lastChosen = index.choose(piece);
+      return lastChosen < 0
+             ? Optional.empty()
+             : Optional.of(slots.get(lastChosen));
+    }
+
+    @Override
+    public void binAdded(final B bin) {
+
+      appendNewBins();
+    }
+
+    @Override
+    public void pieceAdded(final B bin, final P piece) {
+
+      appendNewBins();
+      final int binIndex = indexOf(bin);
+      if (binIndex >= 0) {
+        index.update(binIndex);
+      }
+    }
+
+    @Override
+    public void binRemoved(final B bin) {
+
+      final int binIndex = indexOf(bin);
+      if (binIndex < 0) {
+        return;
+      }
+      index.remove(binIndex);
+      slots.set(binIndex, null);
+      indexed--;
+      if (++removed > indexed) {
+        reindex();
+      }
+    }
+
+    /**
+     * Indexes the bins of the list in a new copy without gaps.
+     */
+    private void reindex() {
+
+      slots = new ArrayList<>(bins);
+      indexed = bins.size();
+      removed = 0;
+      lastChosen = -1;
+      index = index(slots);
+    }
+
+    private void appendNewBins() {
+
+      while (indexed < bins.size()) {
+        slots.add(bins.get(indexed++));
+        index.append(slots.size() - 1);
+      }
+    }
+
+    /**
+     * Finds a bin by identity, looking at the last bin chosen first.
+     *
+     * @param bin the bin.
+     * @return the slot of the bin or -1 if it is not indexed.
+     */
+    private int indexOf(final B bin) {
+
+      if (lastChosen >= 0 && lastChosen < slots.size() &&
+          slots.get(lastChosen) == bin) {
+        return lastChosen;
+      }
+      for (int i = slots.size() - 1; i >= 0; i--) {
+        if (slots.get(i) == bin) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
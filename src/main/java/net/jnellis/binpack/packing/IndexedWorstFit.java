@@ -0,0 +1,60 @@
+/*
+ * IndexedWorstFit.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.List;
+
+/**
+ * Chooses the emptiest bin first, using an ordered index of bins by remaining
+ * capacity instead of scanning every bin. Chooses the same bins as {@link
+ * WorstFit}, including the first of equally empty bins, for bins whose {@code
+ * canFit} agrees with their remaining capacity, as {@link
+ * net.jnellis.binpack.LinearBin} does, in O(log bins) per piece.
+ */
+public class IndexedWorstFit<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    extends IndexedPackingPolicy<P, C, B> {
+
+  @Override
+  protected BinIndex<P> index(final List<B> bins) {
+
+    final RemainingCapacityIndex<P, C, B> index =
+        new RemainingCapacityIndex<>(bins);
+
+    return new BinIndex<P>() {
+      @Override
+      public void update(final int binIndex) {
+
+        index.update(binIndex);
+      }
+
+      @Override
+      public void append(final int binIndex) {
+
+        index.add(binIndex);
+      }
+
+      @Override
+      public void remove(final int binIndex) {
+
+        index.remove(binIndex);
+      }
+
+      @Override
+      public int choose(final P piece) {
+
+        return index.emptiest(piece);
+      }
+    };
+  }
+}
@@ -37,8 +37,10 @@ public class NextFit<
   @Override
   public Optional<B> chooseBin(final P piece, final List<B> existingBins) {
 
-    return PackingPolicy.reverseStream(existingBins)
-                        .findFirst()
-                        .filter(binsThatCanFit(piece));
+    if (existingBins.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(existingBins.get(existingBins.size() - 1))
+                   .filter(binsThatCanFit(piece));
   }
 }
@@ -19,6 +19,11 @@ import java.util.stream.Stream;
 /**
  * A packing algorithm that attempts to find a bin that can fit a piece from a
  * list of bins.
+ * <p>
+ * {@link net.jnellis.binpack.BinPacker#packAll} packs through a {@link
+ * PackingSession} started with {@link #begin}. Policies that only implement
+ * {@link #chooseBin} are given the whole list for every piece, policies that
+ * benefit from keeping state between pieces override {@link #begin}.
  */
 @FunctionalInterface
 public interface PackingPolicy<
@@ -52,6 +57,19 @@ public interface PackingPolicy<
   Optional<B>
   chooseBin(P piece, List<B> existingBins);
 
+  /**
+   * Starts a packing session over {@code existingBins}. The default session
+   * calls {@link #chooseBin} with the whole list for every piece.
+   *
+   * @param existingBins List of existing bins the session will pack, new bins
+   *                     are added to the end of it.
+   * @return a session for packing pieces into {@code existingBins}.
+   */
+  default PackingSession<P, C, B> begin(final List<B> existingBins) {
+
+    return new StatelessSession<>(this, existingBins);
+  }
+
   /**
    * Creates a predicate for bins that can fit this particular piece.
    * <p>
@@ -0,0 +1,93 @@
+/*
+ * PackingSession.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.Optional;
+
+/**
+ * One packing operation of a {@link PackingPolicy} over a single list of
+ * bins. A session is started by {@link PackingPolicy#begin}, is told about
+ * every change the packer makes to the bins and is ended once all pieces are
+ * packed. Between those calls a session may keep whatever index, cursor or
+ * cache helps it choose the next bin.
+ * <p>
+ * The packer drives a session in this order for each piece:
+ * <ol>
+ * <li>{@link #chooseBin}</li>
+ * <li>{@link #binAdded}, only if no bin was chosen and a new one was added
+ * to the end of the list.</li>
+ * <li>{@link #pieceAdded}, once the piece is in the bin.</li>
+ * </ol>
+ * A packer may add several copies of the piece to the chosen bin at once, as
+ * {@link net.jnellis.binpack.LinearBinPacker#packAll(
+ * net.jnellis.binpack.PieceGroups, java.util.List, java.util.List)} does,
+ * and then calls {@link #pieceAdded} once for all of them. Sessions should
+ * read the bin's state rather than count notifications.
+ * <p>
+ * A packer that hands off bins as it goes, such as {@link
+ * net.jnellis.binpack.OnlinePacker}, removes them from the list and then
+ * calls {@link #binRemoved}, so the session never has to be restarted.
+ * Sessions are not thread safe.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+public interface PackingSession<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>> {
+
+  /**
+   * Chooses a bin of the session's list that will fit the piece.
+   *
+   * @param piece The piece to be fitted into an existing bin.
+   * @return Returns an Optional bin that represents the bin it found, or not.
+   */
+  Optional<B> chooseBin(P piece);
+
+  /**
+   * Notification that a new bin was added to the end of the session's list.
+   *
+   * @param bin the new bin.
+   */
+  default void binAdded(final B bin) {
+
+  }
+
+  /**
+   * Notification that a piece, or several copies of it, was added to a bin
+   * of the session's list.
+   *
+   * @param bin   the bin that took the piece.
+   * @param piece the piece added.
+   */
+  default void pieceAdded(final B bin, final P piece) {
+
+  }
+
+  /**
+   * Notification that a bin was removed from the session's list, the bins
+   * after it moving down one place. The session must not choose it again.
+   *
+   * @param bin the removed bin.
+   */
+  default void binRemoved(final B bin) {
+
+  }
+
+  /**
+   * Ends the session, releasing any state it holds.
+   */
+  default void end() {
+
+  }
+}
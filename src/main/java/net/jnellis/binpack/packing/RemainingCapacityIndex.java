@@ -0,0 +1,139 @@
+/*
+ * RemainingCapacityIndex.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An ordered index of bins keyed by remaining capacity, the same shape as the
+ * tree used by {@link net.jnellis.binpack.collectors.BestFitPackingCollector}.
+ * Bins with the same remaining capacity are kept in list index order so a
+ * search agrees with a scan that keeps the first of equal bins.
+ * <p>
+ * The index remembers the key each bin was indexed under, so any bin may be
+ * re-indexed with {@link #update} once its remaining capacity has changed,
+ * or dropped with {@link #remove}.
+ */
+final class RemainingCapacityIndex<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>> {
+
+  private final NavigableMap<C, TreeSet<Integer>> binTree = new TreeMap<>();
+
+  /**
+   * Key of each indexed bin, by list index.
+   */
+  private final List<C> keys = new ArrayList<>();
+
+  private final List<B> bins;
+
+  /**
+   * Indexes every bin in {@code bins}.
+   *
+   * @param bins the bins to index.
+   */
+  RemainingCapacityIndex(final List<B> bins) {
+
+    this.bins = bins;
+    for (int i = 0; i < bins.size(); i++) {
+      add(i);
+    }
+  }
+
+  /**
+   * Indexes the bin appended at {@code index} by its remaining capacity.
+   *
+   * @param index list index of the bin.
+   */
+  void add(final int index) {
+
+    final C key = bins.get(index).getMaxRemainingCapacity();
+    while (keys.size() <= index) {
+      keys.add(null);
+    }
+    keys.set(index, key);
+    binTree.computeIfAbsent(key, donotcare -> new TreeSet<>()).add(index);
+  }
+
+  /**
+   * Moves the bin at {@code index} to the key of its current remaining
+   * capacity.
+   *
+   * @param index list index of the bin.
+   */
+  void update(final int index) {
+
+    remove(index);
+    add(index);
+  }
+
+  /**
+   * Drops the bin at {@code index} from the key it was indexed under. The
+   * indexes of the other bins don't change.
+   *
+   * @param index list index of the bin.
+   */
+  void remove(final int index) {
+
+    final C old = index < keys.size() ? keys.set(index, null) : null;
+    if (old != null) {
+      final TreeSet<Integer> indexes = binTree.get(old);
+      indexes.remove(index);
+      if (indexes.isEmpty()) {
+        //remove empty sets immediately
+        binTree.remove(old);
+      }
+    }
+  }
+
+  /**
+   * Finds the fullest bin that can fit {@code piece}.
+   *
+   * @param key   the piece as a capacity, the least remaining capacity to
+   *              look at.
+   * @param piece the piece to fit.
+   * @return list index of the bin or -1 if no bin fits.
+   */
+  int fullest(final C key, final P piece) {
+
+    for (Map.Entry<C, TreeSet<Integer>> entry = binTree.ceilingEntry(key);
+         entry != null;
+         entry = binTree.higherEntry(entry.getKey())) {
+      final int index = entry.getValue().first();
+      if (bins.get(index).canFit(piece)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the emptiest bin if it can fit {@code piece}.
+   *
+   * @param piece the piece to fit.
+   * @return list index of the bin or -1 if no bin fits.
+   */
+  int emptiest(final P piece) {
+
+    final Map.Entry<C, TreeSet<Integer>> entry = binTree.lastEntry();
+    if (entry == null) {
+      return -1;
+    }
+    final int index = entry.getValue().first();
+    return bins.get(index).canFit(piece) ? index : -1;
+  }
+}
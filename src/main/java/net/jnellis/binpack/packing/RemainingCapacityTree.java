@@ -0,0 +1,175 @@
+/*
+ * RemainingCapacityTree.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A max segment tree over a list of bins keyed by list index. Each node
+ * holds the index of the bin with the largest remaining capacity in its
+ * range, ties going to the lower index, so the leftmost bin that can fit a
+ * piece is found by descending only into subtrees whose emptiest bin can fit
+ * it. Searches and updates take O(log bins).
+ * <p>
+ * The tree does not observe its bins. Callers must call {@link #update} after
+ * adding to an indexed bin and {@link #append} after a bin is added to the
+ * end of the list. A bin dropped with {@link #remove} keeps its place in the
+ * list but is never found again.
+ *
+ * @param <P> piece type
+ * @param <C> capacity type
+ * @param <B> bin type
+ */
+final class RemainingCapacityTree<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>> {
+
+  private static final int EMPTY = -1;
+
+  private final List<B> bins;
+
+  /**
+   * Heap ordered nodes, root at 1, leaves start at {@code leaves}.
+   */
+  private int[] nodes;
+
+  private int leaves;
+
+  private int size;
+
+  /**
+   * Builds a tree over every bin currently in {@code bins}.
+   *
+   * @param bins The bins to index, ideally a {@link java.util.RandomAccess}
+   *             list.
+   */
+  RemainingCapacityTree(final List<B> bins) {
+
+    this.bins = Objects.requireNonNull(bins);
+    build(bins.size());
+  }
+
+  /**
+   * Builds the tree bottom up over the first {@code count} bins with room
+   * for at least one more.
+   *
+   * @param count number of bins to index.
+   */
+  private void build(final int count) {
+
+    this.size = count;
+    this.leaves = Integer.highestOneBit(Math.max(1, count)) << 1;
+    this.nodes = new int[leaves << 1];
+    Arrays.fill(nodes, EMPTY);
+    for (int i = 0; i < size; i++) {
+      nodes[leaves + i] = i;
+    }
+    buildInner();
+  }
+
+  /**
+   * Doubles the number of leaves, keeping the leaves of dropped bins empty.
+   */
+  private void grow() {
+
+    final int[] indexed = Arrays.copyOfRange(nodes, leaves, leaves + size);
+    leaves <<= 1;
+    nodes = new int[leaves << 1];
+    Arrays.fill(nodes, EMPTY);
+    System.arraycopy(indexed, 0, nodes, leaves, size);
+    buildInner();
+  }
+
+  private void buildInner() {
+
+    for (int node = leaves - 1; node > 0; node--) {
+      nodes[node] = emptier(nodes[node << 1], nodes[(node << 1) + 1]);
+    }
+  }
+
+  /**
+   * Indexes the next bin of the list, growing the tree when it is full.
+   */
+  void append() {
+
+    if (size == leaves) {
+      grow();
+    }
+    nodes[leaves + size] = size;
+    update(size++);
+  }
+
+  /**
+   * Recomputes the path from the bin at {@code index} to the root after the
+   * bin's remaining capacity changed.
+   *
+   * @param index list index of the bin that changed.
+   */
+  void update(final int index) {
+
+    for (int node = (leaves + index) >> 1; node > 0; node >>= 1) {
+      nodes[node] = emptier(nodes[node << 1], nodes[(node << 1) + 1]);
+    }
+  }
+
+  /**
+   * Drops the bin at {@code index} from the tree by resetting its leaf, so
+   * the indexes of the other bins don't change.
+   *
+   * @param index list index of the bin to drop.
+   */
+  void remove(final int index) {
+
+    nodes[leaves + index] = EMPTY;
+    update(index);
+  }
+
+  /**
+   * Finds the lowest indexed bin that can fit {@code piece}.
+   *
+   * @param piece The piece to fit.
+   * @return the list index of the bin or -1 if no bin fits.
+   */
+  int firstFit(final P piece) {
+
+    if (!fits(1, piece)) {
+      return EMPTY;
+    }
+    int node = 1;
+    while (node < leaves) {
+      node <<= 1;
+      if (!fits(node, piece)) {
+        node++;
+      }
+    }
+    return nodes[node];
+  }
+
+  private boolean fits(final int node, final P piece) {
+
+    final int index = nodes[node];
+    return index != EMPTY && bins.get(index).canFit(piece);
+  }
+
+  private int emptier(final int left, final int right) {
+
+    if (left == EMPTY) {
+      return right;
+    }
+    if (right == EMPTY) {
+      return left;
+    }
+    return bins.get(right).compareTo(bins.get(left)) > 0 ? right : left;
+  }
+}
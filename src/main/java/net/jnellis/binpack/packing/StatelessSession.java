@@ -0,0 +1,41 @@
+/*
+ * StatelessSession.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing;
+
+import net.jnellis.binpack.Bin;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapts a policy that only implements {@link PackingPolicy#chooseBin} to a
+ * {@link PackingSession} by handing it the whole list for every piece.
+ */
+final class StatelessSession<
+    P extends Comparable<P>,
+    C extends Comparable<C>,
+    B extends Bin<P, C>>
+    implements PackingSession<P, C, B> {
+
+  private final PackingPolicy<P, C, B> policy;
+
+  private final List<B> bins;
+
+  StatelessSession(final PackingPolicy<P, C, B> policy, final List<B> bins) {
+
+    this.policy = policy;
+    this.bins = bins;
+  }
+
+  @Override
+  public Optional<B> chooseBin(final P piece) {
+
+    return policy.chooseBin(piece, bins);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * DoubleSorting.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.preorder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts boxed doubles as an array of primitives, in the order of {@link
+ * Double#compareTo}.
+ */
+final class DoubleSorting {
+
+  private DoubleSorting() {
+
+  }
+
+  /**
+   * Sorts {@code pieces}, by {@link Arrays#parallelSort(double[])}, which
+   * sorts across the common pool for large arrays.
+   *
+   * @param pieces     the pieces to sort.
+   * @param descending whether to sort largest first.
+   * @param inPlace    whether to sort {@code pieces} or a copy of them.
+   * @return the sorted pieces, {@code pieces} when sorted in place.
+   * @exception NullPointerException if a piece is null.
+   */
+  static List<Double> sort(final List<Double> pieces,
+                           final boolean descending,
+                           final boolean inPlace) {
+
+    final int n = pieces.size();
+    final double[] values = new double[n];
+    int i = 0;
+    for (Double piece : pieces) {
+      values[i++] = piece;
+    }
+    Arrays.parallelSort(values);
+    final List<Double> sorted = inPlace ? pieces : new ArrayList<>(n);
+    for (i = 0; i < n; i++) {
+      final double value = values[descending ? n - 1 - i : i];
+      if (inPlace) {
+        sorted.set(i, value);
+      } else {
+        sorted.add(value);
+      }
+    }
+    return sorted;
+  }
+}
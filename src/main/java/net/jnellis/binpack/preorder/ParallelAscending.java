@@ -0,0 +1,59 @@
+/*
+ * ParallelAscending.java
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.preorder;
+
+import java.util.List;
+
+/**
+ * Sorting of double pieces in their ascending ordering, smallest first, as an
+ * array of primitives sorted in parallel. This is the order of {@link
+ * Ascending}, without comparing boxed pieces, and for large inputs it is sorted
+ * across the common fork join pool.
+ * <p>
+ * By default the pieces are sorted in place. A non-mutating policy leaves
+ * the given list as it is and returns a sorted copy.
+ */
+public class ParallelAscending implements PreOrderPolicy<Double> {
+
+  private final boolean inPlace;
+
+  /**
+   * Creates a policy sorting pieces in place.
+   */
+  public ParallelAscending() {
+
+    this(true);
+  }
+
+  /**
+   * Creates a policy.
+   *
+   * @param inPlace whether to sort the given list or return a sorted copy.
+   */
+  public ParallelAscending(final boolean inPlace) {
+
+    this.inPlace = inPlace;
+  }
+
+  /**
+   * Returns whether pieces are sorted in place.
+   *
+   * @return false if a sorted copy is returned.
+   */
+  public boolean isInPlace() {
+
+    return inPlace;
+  }
+
+  @Override
+  public List<Double> order(final List<Double> pieces) {
+
+    return DoubleSorting.sort(pieces, false, inPlace);
+  }
+}
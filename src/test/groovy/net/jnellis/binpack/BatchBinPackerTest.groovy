@@ -0,0 +1,116 @@
+/*
+ * BatchBinPackerTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import net.jnellis.binpack.packing.IndexedBestFit
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.function.Function
+
+class BatchBinPackerTest extends Specification {
+
+  def "Results are in the order of the jobs and match packing one at a time."() {
+    setup:
+    def random = new Random(43)
+    def jobs = (1..500).collect {
+      def pieces = (1..random.nextInt(40) + 1).collect {
+        (double) random.nextInt(20) + 1
+      }
+      new BatchBinPacker.Job<Double, Double, LinearBin>(pieces, [], [40d, 25d])
+    }
+    def expected = jobs.collect {
+      new LinearBinPacker().packAll(new ArrayList(it.pieces), [], [40d, 25d])*.pieces
+    }
+    def batch = new BatchBinPacker<Double, Double, LinearBin>({
+      new LinearBinPacker().setPackingPolicy(
+          new IndexedBestFit<>(Function.<Double> identity()))
+    })
+
+    when:
+    def results = batch.packAll(jobs)
+
+    then:
+    results*.bins*.pieces == expected
+    results.every { !it.failed && it.latencyNanos >= it.packingNanos }
+
+    cleanup:
+    batch.close()
+  }
+
+  def "Packers are reused, no more are made than jobs run at once."() {
+    setup:
+    def made = ConcurrentHashMap.newKeySet()
+    def pool = Executors.newFixedThreadPool(3)
+    def batch = new BatchBinPacker<Double, Double, LinearBin>({
+      def packer = new LinearBinPacker()
+      made << packer
+      packer
+    }, pool)
+    def jobs = (1..100).collect {
+      new BatchBinPacker.Job<Double, Double, LinearBin>([3d, 4d], [], [8d])
+    }
+
+    when:
+    def results = batch.packAll(jobs)
+
+    then:
+    results.size() == 100
+    made.size() <= 3
+
+    cleanup:
+    batch.close()
+    pool.shutdown()
+  }
+
+  def "The default executor reuses packers across jobs."() {
+    setup:
+    def made = ConcurrentHashMap.newKeySet()
+    def batch = new BatchBinPacker<Double, Double, LinearBin>({
+      def packer = new LinearBinPacker()
+      made << packer
+      packer
+    })
+    def jobs = (1..200).collect {
+      new BatchBinPacker.Job<Double, Double, LinearBin>([3d, 4d], [], [8d])
+    }
+
+    when:
+    batch.packAll(jobs)
+
+    then:
+    made.size() <= Runtime.runtime.availableProcessors()
+
+    cleanup:
+    batch.close()
+  }
+
+  def "A failed job does not fail the others."() {
+    setup:
+    def batch = new BatchBinPacker<Double, Double, LinearBin>({
+      new LinearBinPacker()
+    })
+    def jobs = [
+        new BatchBinPacker.Job<Double, Double, LinearBin>([3d], [], [8d]),
+        new BatchBinPacker.Job<Double, Double, LinearBin>([9d], [], [8d]),
+        new BatchBinPacker.Job<Double, Double, LinearBin>([5d], [], [8d])]
+
+    when:
+    def results = batch.packAll(jobs)
+
+    then:
+    results*.failed == [false, true, false]
+    results[1].failure instanceof AssertionError
+    results[2].bins*.pieces == [[5d]]
+
+    cleanup:
+    batch.close()
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * BinStoreTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.IndexedBestFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.packing.WorstFit
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+class BinStoreTest extends Specification {
+
+  def "Bins share profiles and keep their pieces in the order added."() {
+    setup:
+    def store = new BinStore()
+    def profile = store.profile([8d, 4d, 3d])
+
+    when:
+    def first = store.addBin(profile)
+    def second = store.addBin(store.profile([8d, 4d, 3d]))
+    def existing = store.addExistingBin(5d)
+    store.add(first, 3d)
+    store.add(second, 7d)
+    store.add(first, 4d)
+    store.add(existing, 5d)
+
+    then:
+    store.size() == 3
+    store.getProfile(first) == store.getProfile(second)
+    store.getProfile(existing) == BinStore.NO_PROFILE
+    store.getCapacities(existing) == [5d] as double[]
+    store.getBin(existing).capacities == [5d]
+    store.getSmallestCapacityNeeded(existing) == 5d
+    store.isExisting(existing) && !store.isExisting(first)
+    store.getBins()*.pieces == [[3d, 4d], [7d], [5d]]
+    store.getTotal(first) == 7d
+    store.remaining(first) == 1d
+    store.getSmallestCapacityNeeded(first) == 8d
+    !store.canFit(existing, 0.1d)
+    !store.add(second, 2d)
+
+    when:
+    store.add(first, 1d)
+
+    then:
+    store.getBin(first).pieces == [3d, 4d, 1d]
+    store.getBin(first).is(store.getBins()[first])
+  }
+
+  def "Primitive scans find the first and the fullest bin that fits."() {
+    setup:
+    def store = new BinStore()
+    def profile = store.profile(10d)
+    [6d, 2d, 7d, 2d].each { store.add(store.addBin(profile), it) }
+
+    expect:
+    store.firstFit(3.5d) == 0
+    store.bestFit(3.5d) == 0
+    store.firstFit(5d) == 1
+    store.bestFit(3d) == 2
+    store.bestFit(8d) == 1
+    store.firstFit(9d) == -1
+    store.bestFit(9d) == -1
+  }
+
+  @Unroll
+  def "Packing the store with #policy.class.simpleName matches packing LinearBins."() {
+    setup:
+    def random = new Random(5)
+    def pieces = (1..2000).collect { (double) random.nextInt(60) + 1 }
+    def capacities = [40d, 100d, 70d]
+    def storedBinPacker = new StoredBinPacker()
+    storedBinPacker.setPreOrderPolicy(new AsIs<>()).setPackingPolicy(policy)
+    def existing = [30d, 120d]
+    existing.each { storedBinPacker.store.addExistingBin(it) }
+
+    when:
+    def store = storedBinPacker.packAll(pieces, capacities)
+    def bins = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setExistingBinPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(policy)
+        .packAll(pieces, existing.collect { new LinearBin(it) }, capacities)
+
+    then:
+    store.getBins()*.pieces == bins*.pieces
+    store.getBins()*.smallestCapacityNeeded == bins*.smallestCapacityNeeded
+    store.getPieceCount() == pieces.size()
+
+    where:
+    policy << [new BestFit(), new FirstFit(), new NextFit(), new WorstFit(),
+               new IndexedBestFit(Function.identity())]
+  }
+
+  def "The profile of new bins is looked up once per pack."() {
+    setup:
+    def reads = 0
+    def capacities = new ArrayList<Double>([10d, 8d]) {
+      @Override
+      Double get(int index) {
+        reads++
+        return super.get(index)
+      }
+    }
+    def binPacker = new StoredBinPacker()
+    (1..5).each { binPacker.store.profile(it as double) }
+
+    when:
+    def store = binPacker.packAll(new ArrayList<Double>(Collections.nCopies(100, 9d)),
+                                  capacities)
+
+    then:
+    store.size() == 100
+    reads < 20
+  }
+
+  def "Clearing removes bins and pieces but keeps profiles."() {
+    setup:
+    def store = new BinStore()
+    def profile = store.profile(8d, 4d)
+    store.add(store.addBin(profile), 5d)
+    store.add(store.addExistingBin(3d), 2d)
+
+    when:
+    store.clear()
+    def bin = store.addBin(profile)
+
+    then:
+    store.size() == 1
+    store.getPieceCount() == 0
+    store.getTotal(bin) == 0d
+    store.getPieceCount(bin) == 0
+    store.profile(8d, 4d) == profile
+    store.bins*.pieces == [[]]
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * CapacityProfileTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class CapacityProfileTest extends Specification {
+
+  @Unroll
+  def "Smallest capacity needed for a total of #total is #expected."() {
+    setup:
+    def profile = CapacityProfile.of([8d, 4d, 3d, 4d])
+
+    expect:
+    profile.smallestCapacityNeeded(total) == expected
+
+    where:
+    total | expected
+    0d    | 3d
+    3d    | 3d
+    3.5d  | 4d
+    4d    | 4d
+    7.9d  | 8d
+    8d    | 8d
+  }
+
+  def "A total larger than every capacity has no capacity."() {
+    when:
+    CapacityProfile.of(8d, 4d).smallestCapacityNeeded(8.1d)
+
+    then:
+    thrown(IllegalStateException)
+  }
+
+  def "Profiles keep capacities in the order given."() {
+    setup:
+    double[] capacities = [8d, 4d, 3d]
+
+    when:
+    def profile = CapacityProfile.of(capacities)
+    capacities[0] = 1d
+
+    then:
+    profile.capacities == [8d, 4d, 3d]
+    profile.maxCapacity == 8d
+    profile.minCapacity == 3d
+    profile.canFit(5d, 3d)
+    !profile.canFit(5d, 3.1d)
+    profile.matches([8d, 4d, 3d])
+    !profile.matches([3d, 4d, 8d])
+    profile.matches(8d, 4d, 3d)
+    profile == CapacityProfile.of([8d, 4d, 3d])
+  }
+
+  def "A profile needs a capacity."() {
+    when:
+    CapacityProfile.of([])
+
+    then:
+    thrown(IllegalStateException)
+  }
+
+  def "Reuse keeps a profile while the capacities are the same."() {
+    setup:
+    def profile = CapacityProfile.of([8d, 4d])
+
+    expect:
+    CapacityProfile.reuse(profile, [8d, 4d]).is(profile)
+    !CapacityProfile.reuse(profile, [8d, 5d]).is(profile)
+    CapacityProfile.reuse(null, [8d, 4d]) == profile
+  }
+
+  def "Bins from one supplier or packer share a profile."() {
+    setup:
+    def supplier = LinearBin.newBinSupplier([8d, 4d])
+    def packer = new LinearBinPacker()
+
+    when:
+    def bins = packer.packAll([5d, 6d, 7d], [], [8d, 4d])
+
+    then:
+    supplier.get().profile.is(supplier.get().profile)
+    bins.size() == 3
+    bins*.profile.every { it.is(bins[0].profile) }
+  }
+}
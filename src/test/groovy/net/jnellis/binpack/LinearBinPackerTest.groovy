@@ -8,8 +8,27 @@
 
 package net.jnellis.binpack
 
+import net.jnellis.binpack.packing.AlmostWorstFit
+import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.IndexedBestFit
+import net.jnellis.binpack.packing.IndexedFirstFit
+import net.jnellis.binpack.packing.LastFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.packing.WorstFit
+import net.jnellis.binpack.preorder.AsIs
+import net.jnellis.binpack.preorder.Ascending
+import net.jnellis.binpack.preorder.BucketedDescending
+import net.jnellis.binpack.preorder.Descending
+import net.jnellis.binpack.preorder.ParallelAscending
+import net.jnellis.binpack.preorder.ParallelDescending
+import net.jnellis.binpack.preorder.PreOrderPolicy
 import spock.lang.Shared
 import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+import java.util.function.ToDoubleFunction
 
 /**
  * User: Joe Nellis
@@ -42,4 +61,267 @@ class LinearBinPackerTest extends Specification {
     thrown(AssertionError)
 
   }
+
+  @Unroll
+  def "Packing arrays with #packing.class.simpleName and #preOrder.class.simpleName matches packing lists."() {
+    setup:
+    def random = new Random(3)
+    double[] pieces = (1..2000).collect { (double) random.nextInt(60) + 1 }
+    double[] capacities = [40d, 100d, 70d]
+    def packer = new LinearBinPacker().setPackingPolicy(packing)
+                                      .setPreOrderPolicy(preOrder)
+
+    when:
+    def assignment = packer.packAll(pieces, capacities)
+    def bins = packer.packAll(pieces.toList(), [], capacities.toList())
+
+    then:
+    assignment.pieceCount == pieces.length
+    assignment.binCount == bins.size()
+    assignment.totals.toList() == bins*.total
+    assignment.capacities.toList() == bins*.smallestCapacityNeeded
+    (0..<assignment.binCount).every { bin ->
+      def inBin = (0..<pieces.length).findAll { assignment.getBin(it) == bin }
+      inBin.collect { pieces[it] }.sort() == bins[bin].pieces.sort(false)
+    }
+
+    where:
+    packing               | preOrder
+    new BestFit()         | new Descending()
+    new FirstFit()        | new Ascending()
+    new IndexedFirstFit() | new Descending()
+    new NextFit()         | new AsIs()
+    new WorstFit()        | new Descending()
+    new AlmostWorstFit()  | new AsIs()
+    new BestFit()         | reversing()
+    new BestFit()         | new ParallelDescending()
+    new FirstFit()        | new ParallelAscending(false)
+  }
+
+  def "Pieces are not reordered and equal pieces keep their order."() {
+    setup:
+    double[] pieces = [2d, 5d, 2d, 5d]
+    def packer = new LinearBinPacker().setPackingPolicy(new FirstFit())
+
+    when:
+    def assignment = packer.packAll(pieces, [5d] as double[])
+
+    then:
+    pieces == [2d, 5d, 2d, 5d] as double[]
+    assignment.bins == [2, 0, 2, 1] as int[]
+  }
+
+  @Unroll
+  def "A #preOrder.class.superclass.simpleName subclass that overrides order is honoured by arrays."() {
+    setup:
+    double[] pieces = [4d, 6d, 3d, 5d]
+    def packer = new LinearBinPacker().setPackingPolicy(new FirstFit())
+                                      .setPreOrderPolicy(preOrder)
+
+    expect:
+    packer.packAll(pieces, [10d] as double[])
+          .groupByBin(pieces.toList())*.sort(false) ==
+        packer.packAll(pieces.toList(), [], [10d])*.pieces*.sort(false)
+
+    where:
+    preOrder << [new DescendingAsAscending(), new AscendingAsDescending()]
+  }
+
+  def "Policies that change pieces are rejected."() {
+    setup:
+    def packer = new LinearBinPacker().setPreOrderPolicy({ it.subList(0, 1) } as PreOrderPolicy)
+
+    when:
+    packer.packAll([1d, 2d] as double[], [5d] as double[])
+
+    then:
+    thrown(IllegalStateException)
+  }
+
+  @Unroll
+  def "Grouped pieces with #packing.class.simpleName pack like the expanded pieces."() {
+    setup:
+    def random = new Random(53)
+    def groups = new PieceGroups()
+    (1..30).each { groups.add((double) random.nextInt(60) + 1, random.nextInt(200)) }
+    def expanded = groups.sizes.collectMany { Collections.nCopies(groups.getCount(it), it) }
+    def packer = new LinearBinPacker().setPackingPolicy(packing)
+                                      .setPreOrderPolicy(new Descending())
+
+    when:
+    def grouped = packer.packAll(groups, [new LinearBin(90d)], [100d, 70d])
+    def bins = packer.packAll(expanded, [new LinearBin(90d)], [100d, 70d])
+
+    then:
+    grouped*.pieces == bins*.pieces
+    grouped*.total == bins*.total
+
+    where:
+    packing << [new FirstFit(), new BestFit(), new NextFit(), new LastFit(),
+                new IndexedFirstFit(),
+                new IndexedBestFit<>(Function.<Double> identity())]
+  }
+
+  def "Groups merge sizes and a bin takes as many copies as fit at once."() {
+    setup:
+    def groups = PieceGroups.of([1250d, 830d, 1250d] as double[],
+                                [400, 120, 100] as int[])
+    def bin = new LinearBin(6000d)
+
+    expect:
+    groups.sizes == [1250d, 830d]
+    groups.getCount(1250d) == 500
+    groups.pieceCount == 620
+    bin.add(1250d, 10) == 4
+    bin.pieces == Collections.nCopies(4, 1250d)
+    bin.add(830d, 10) == 1
+    bin.add(1000d, 3) == 0
+    bin.total == 5830d
+  }
+
+  @Unroll
+  def "Adding #count copies of #piece at once into #capacity matches adding them one at a time."() {
+    setup:
+    def bulk = new LinearBin(capacity)
+    def single = new LinearBin(capacity)
+    def added = 0
+    for (int i = 0; i < count; i++) {
+      if (single.add(piece as double)) {
+        added++
+      }
+    }
+
+    expect:
+    bulk.add(piece, count) == added
+    bulk.total == single.total
+    bulk.pieces == single.pieces
+
+    where:
+    piece | capacity | count
+    0.1d  | 0.6d     | 10
+    0.1d  | 1.0d     | 10
+    0.1d  | 1.5d     | 20
+    0.1d  | 2.1d     | 30
+    0.2d  | 2.1d     | 20
+  }
+
+  /**
+   * A policy, other than those ordered without boxing, that reverses pieces.
+   */
+  static PreOrderPolicy<Double> reversing() {
+    return { pieces -> pieces.reverse(true) } as PreOrderPolicy
+  }
+
+  @Unroll
+  def "#packing.class.simpleName packs nearly as well from buckets as from descending order."() {
+    setup:
+    def random = new Random(5)
+    List<Double> pieces = (1..5000).collect { random.nextDouble() * 60d }
+    def descending = new LinearBinPacker().setPackingPolicy(packing)
+                                          .setPreOrderPolicy(new Descending())
+    def bucketed = new LinearBinPacker().setPackingPolicy(packing)
+                                        .setPreOrderPolicy(
+        BucketedDescending.forCapacities(32, [100d]))
+
+    when:
+    def exact = descending.packAll(new ArrayList<>(pieces), [], [100d]).size()
+    def approximate =
+        bucketed.packAll(new ArrayList<>(pieces), [], [100d]).size()
+
+    then:
+    approximate <= exact * 1.02
+
+    where:
+    packing << [new FirstFit(), new BestFit()]
+  }
+
+  @Unroll
+  def "Large piece fast path packs as #packing.class.simpleName decreasing does."() {
+    setup:
+    def random = new Random(9)
+    List<Double> pieces = (1..3000).collect { random.nextDouble() * 90d + 1d }
+    def plain = new LinearBinPacker().setPackingPolicy(packing)
+    def fast = new LinearBinPacker().setLargePieceFastPath(true)
+    fast.setPackingPolicy(packing)
+
+    expect:
+    fast.packAll(new ArrayList<>(pieces), [], [100d, 70d])*.pieces ==
+        plain.packAll(new ArrayList<>(pieces), [], [100d, 70d])*.pieces
+
+    where:
+    packing << [new FirstFit(), new BestFit(),
+                new IndexedBestFit(Function.<Double>identity()),
+                new IndexedFirstFit()]
+  }
+
+  def "Large pieces an existing bin can fit are packed by the policy."() {
+    setup:
+    def existing = new LinearBin(9d)
+    def packer = new LinearBinPacker().setLargePieceFastPath(true)
+
+    when:
+    def bins = packer.packAll([7d, 6d, 2d, 1d], [existing], [8d])
+
+    then:
+    bins*.pieces == [[7d, 2d], [6d, 1d]]
+    bins[0].is(existing)
+  }
+
+  def "Spliced remainders take the large piece fast path."() {
+    setup:
+    def packer = new SpliceableBinPacker().setLargePieceFastPath(true)
+
+    expect:
+    packer.packAll([17d, 5d, 1d], [], [6d])*.pieces ==
+        [[6d], [6d], [5d, 1d], [5d]]
+  }
+
+  def "Items are packed by their extracted sizes and grouped by bin."() {
+    setup:
+    def items = [[name: 'a', length: 3d], [name: 'b', length: 7d],
+                 [name: 'c', length: 5d], [name: 'd', length: 4d],
+                 [name: 'e', length: 1d]]
+    def calls = 0
+    def size = { calls++; it.length } as ToDoubleFunction
+
+    when:
+    def groups = new LinearBinPacker().packAll(items, size, [10d] as double[])
+
+    then:
+    groups.collect { it*.name } == [['a', 'b'], ['c', 'd', 'e']]
+    calls == items.size()
+  }
+
+  def "Grouping needs an item per piece."() {
+    when:
+    new LinearBinPacker().packAll([2d] as double[], [5d] as double[])
+                         .groupByBin(['a', 'b'])
+
+    then:
+    thrown(IllegalArgumentException)
+  }
+
+  /**
+   * A Descending subclass that orders pieces ascending.
+   */
+  static class DescendingAsAscending extends Descending<Double> {
+
+    @Override
+    List<Double> order(final List<Double> pieces) {
+      pieces.sort()
+      return pieces
+    }
+  }
+
+  /**
+   * An Ascending subclass that orders pieces descending.
+   */
+  static class AscendingAsDescending extends Ascending<Double> {
+
+    @Override
+    List<Double> order(final List<Double> pieces) {
+      pieces.sort(Comparator.reverseOrder())
+      return pieces
+    }
+  }
 }
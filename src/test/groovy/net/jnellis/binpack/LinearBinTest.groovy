@@ -92,4 +92,39 @@ class LinearBinTest extends Specification {
     assert someBin.smallestCapacityNeeded == 20d
 
   }
+
+  def "Primitive fast paths agree with the boxed methods."() {
+    setup:
+    LinearBin bin = new LinearBin([10d, 20d, 30d, 40d].asList())
+
+    expect:
+    bin.add(12.5d as double)
+    bin.remaining() == 27.5d
+    bin.remaining() == bin.getMaxRemainingCapacity()
+    bin.canFit(27.5d as double) == bin.canFit(27.5d as Double)
+    !bin.canFit(27.6d as double)
+    !bin.add(30d as double)
+    bin.getTotal() == 12.5d
+  }
+
+  def "Pieces are a growing read only view."() {
+    setup:
+    LinearBin bin = new LinearBin(100d)
+    def pieces = bin.getPieces()
+
+    when:
+    (1..10).each { bin.add(it as double) }
+
+    then:
+    pieces == (1..10).collect { it as double }
+    bin.toString() ==
+        "LinearBin{pieces=[1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0]" +
+        ", capacities=[100.0], total=55.0, existing=true}"
+
+    when:
+    pieces.add(1d)
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
 }
@@ -0,0 +1,207 @@
+/*
+ * LongBinPackerTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.IndexedFirstFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.preorder.Ascending
+import net.jnellis.binpack.preorder.AsIs
+import net.jnellis.binpack.preorder.Descending
+import net.jnellis.binpack.preorder.PreOrderPolicy
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.ToLongFunction
+
+class LongBinPackerTest extends Specification {
+
+  def "Exact fits that drift as doubles fit in units."() {
+    setup:
+    def scale = FixedPointScale.of(100)
+
+    expect: "0.1 + 0.2 overflows 0.3 as a double"
+    !new LinearBin(0.3d).with { add(0.1d); canFit(0.2d) }
+    new LongBinPacker().setPreOrderPolicy(new AsIs<>())
+                       .packAll([0.1d, 0.2d], [], [0.3d], scale)*.pieces ==
+        [[10L, 20L]]
+  }
+
+  @Unroll
+  def "Packing units with #packing.class.simpleName matches packing whole doubles."() {
+    setup:
+    def random = new Random(47)
+    def pieces = (1..2000).collect { (long) random.nextInt(60) + 1 }
+    def capacities = [100L, 70L]
+
+    when:
+    def longBins = new LongBinPacker().setPackingPolicy(packing)
+                                      .packAll(new ArrayList<>(pieces), [], capacities)
+    def linearBins = new LinearBinPacker().packAll(
+        pieces.collect { (double) it }, [], [100d, 70d])
+
+    then:
+    longBins*.pieces == linearBins*.pieces.collect { it*.longValue() }
+    longBins*.smallestCapacityNeeded ==
+        linearBins*.smallestCapacityNeeded*.longValue()
+
+    where:
+    packing << [new BestFit(), new IndexedFirstFit()]
+  }
+
+  def "Existing bins are packed first."() {
+    when:
+    def bins = new LongBinPacker().packAll([5L, 3L], [new LongBin(8L)], [4L])
+
+    then:
+    bins*.pieces == [[5L, 3L]]
+    bins[0].existing
+  }
+
+  def "Splices are exact."() {
+    expect:
+    SpliceableLongBinPacker.createSplicePieces([25L, 16L, 3L], 8L) ==
+        [8L, 8L, 8L, 1L, 8L, 8L, 3L]
+    new SpliceableLongBinPacker().packAll([30L], [], [10L])*.pieces ==
+        [[10L], [10L], [10L]]
+  }
+
+  def "Splices go through the packing policy when not pre-ordered descending."() {
+    setup:
+    def packer = new SpliceableLongBinPacker()
+    packer.setPackingPolicy(new NextFit<>()).setPreOrderPolicy(new AsIs<>())
+
+    expect:
+    packer.packAll([2L, 13L, 2L], [], [6L])*.pieces ==
+        [[2L], [6L], [6L], [1L, 2L]]
+  }
+
+  def "Scales convert to the nearest unit."() {
+    setup:
+    def scale = FixedPointScale.of(100)
+
+    expect:
+    scale.toUnits(1.005d) == 100L || scale.toUnits(1.005d) == 101L
+    scale.toUnits(0.29d) == 29L
+    scale.toUnits([0.1d, 2.5d]) == [10L, 250L]
+    scale.toUnits([0.1d, 2.5d] as double[]) == [10L, 250L] as long[]
+    scale.toDouble(29L) == 0.29d
+    scale.toDoubles([10L, 250L]) == [0.1d, 2.5d]
+  }
+
+  def "Lengths too big for a long are rejected."() {
+    when:
+    FixedPointScale.of(1000).toUnits(1e17d)
+
+    then:
+    thrown(ArithmeticException)
+  }
+
+  def "LongBins find the smallest capacity needed."() {
+    setup:
+    def bin = LongBin.newBinSupplier([12L, 8L, 10L]).get()
+
+    when:
+    bin.add(7L)
+    bin.add(2L)
+
+    then:
+    bin.smallestCapacityNeeded == 10L
+    bin.maxRemainingCapacity == 3L
+    !bin.add(4L)
+    bin.capacities == [12L, 8L, 10L]
+  }
+
+  def "LongBins that keep only their total still fit by it."() {
+    setup:
+    def bin = new LongBin([10L, 8L] as long[], [8L, 10L] as long[], false, false)
+
+    when:
+    bin.add(7L)
+    bin.add(2L)
+
+    then:
+    bin.pieces.isEmpty()
+    bin.total == 9L
+    bin.smallestCapacityNeeded == 10L
+    !bin.add(2L)
+  }
+
+  def "Items are packed by their extracted sizes, equal sizes in order."() {
+    setup:
+    def items = ['a', 'bb', 'ccc', 'dddd', 'eeeee']
+    def sizes = [a: 6L, bb: 4L, ccc: 6L, dddd: 4L, eeeee: 2L]
+
+    when:
+    def groups = new LongBinPacker().packAll(
+        items, { sizes[it] } as ToLongFunction, [10L] as long[])
+
+    then:
+    groups == [['a', 'bb'], ['ccc', 'dddd'], ['eeeee']]
+  }
+
+  def "Extracted sizes are ordered by the pre-order policy."() {
+    setup:
+    def packer = new LongBinPacker()
+    packer.setPreOrderPolicy(new AsIs<>())
+
+    expect:
+    packer.packAll([2L, 9L, 8L], { it } as ToLongFunction, [10L] as long[]) ==
+        [[2L, 8L], [9L]]
+  }
+
+  def "A Descending subclass that overrides order is honoured by primitive pieces."() {
+    setup:
+    def pieces = [4L, 6L, 3L, 5L]
+    def packer = new LongBinPacker()
+    packer.setPreOrderPolicy(new DescendingAsAscending())
+
+    expect:
+    packer.packAll(pieces as long[], [10L] as long[])
+          .groupByBin(pieces)*.sort(false) ==
+        packer.packAll(new ArrayList<>(pieces), [], [10L])*.pieces*.sort(false)
+  }
+
+  @Unroll
+  def "Primitive pieces with #orderName pack as the boxed pieces do."() {
+    setup:
+    def random = new Random(29)
+    def pieces = (1..300).collect { (long) random.nextInt(60) + 1 }
+    def packer = new LongBinPacker()
+    packer.setPreOrderPolicy(order).setPackingPolicy(new BestFit<>())
+
+    when:
+    def assignment = packer.packAll(pieces as long[], [100L, 70L] as long[])
+    def bins = packer.packAll(new ArrayList<>(pieces), [], [100L, 70L])
+
+    then:
+    assignment.binCount == bins.size()
+    assignment.groupByBin(pieces)*.sort(false) == bins*.pieces*.sort(false)
+    assignment.totals as List == bins*.total*.doubleValue()
+    assignment.capacities as List ==
+        bins*.smallestCapacityNeeded*.doubleValue()
+
+    where:
+    order << [new Descending<>(), new Ascending<>(), new AsIs<>(),
+              { it.reverse(true) } as PreOrderPolicy]
+    orderName = order.getClass().getSimpleName()
+  }
+
+  /**
+   * A Descending subclass that orders pieces ascending.
+   */
+  static class DescendingAsAscending extends Descending<Long> {
+
+    @Override
+    List<Long> order(final List<Long> pieces) {
+      pieces.sort()
+      return pieces
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * OnlinePackerTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.IndexedBestFit
+import net.jnellis.binpack.packing.IndexedFirstFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.packing.PackingSession
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+class OnlinePackerTest extends Specification {
+
+  def "Bins close as soon as they can't fit the smallest piece."() {
+    setup:
+    def closed = []
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new FirstFit()), [8d], 1d,
+        { closed << it })
+
+    when:
+    [5d, 2.5d, 4d].each { packer.offer(it) }
+
+    then:
+    closed*.pieces == [[5d, 2.5d]]
+    packer.openBins*.pieces == [[4d]]
+
+    when:
+    packer.offer(3.5d)
+    packer.offer(6d)
+    packer.flush()
+
+    then:
+    closed*.pieces == [[5d, 2.5d], [4d, 3.5d], [6d]]
+    packer.openBins.isEmpty()
+  }
+
+  @Unroll
+  def "Online #packing.class.simpleName packs every piece and keeps few bins open."() {
+    setup:
+    def random = new Random(23)
+    def pieces = (1..5000).collect { (double) random.nextInt(16) + 5 }
+    def closed = []
+    def mostOpen = 0
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(packing), [40d], 5d,
+        { closed << it })
+
+    when:
+    pieces.each {
+      packer.offer(it)
+      mostOpen = Math.max(mostOpen, packer.openBins.size())
+    }
+    packer.flush()
+
+    then:
+    closed*.pieces.flatten().sort() == pieces.sort(false)
+    closed.every { it.total <= 40d }
+    mostOpen < closed.size() / 10
+
+    where:
+    packing << [new FirstFit(), new BestFit(), new IndexedFirstFit(),
+                new IndexedBestFit<>(Function.<Double> identity())]
+  }
+
+  def "A piece too large for a new bin is rejected."() {
+    setup:
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker(), [8d], 1d, {})
+
+    when:
+    packer.offer(9d)
+
+    then:
+    thrown(AssertionError)
+  }
+
+  @Unroll
+  def "At most #k bins are open, evicting the #eviction bin."() {
+    setup:
+    def random = new Random(29)
+    def pieces = (1..3000).collect { (double) random.nextInt(16) + 5 }
+    def closed = []
+    def mostOpen = 0
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new BestFit()), [40d], 5d,
+        { closed << it }).setMaxOpenBins(k, eviction)
+
+    when:
+    pieces.each {
+      packer.offer(it)
+      mostOpen = Math.max(mostOpen, packer.openBins.size())
+    }
+    packer.flush()
+
+    then:
+    mostOpen <= k
+    closed*.pieces.flatten().sort() == pieces.sort(false)
+
+    where:
+    k  | eviction
+    1  | OnlinePacker.Eviction.OLDEST
+    4  | OnlinePacker.Eviction.OLDEST
+    4  | OnlinePacker.Eviction.FULLEST
+    16 | OnlinePacker.Eviction.FULLEST
+  }
+
+  def "One open bin packs like NextFit."() {
+    setup:
+    def random = new Random(31)
+    def pieces = (1..2000).collect { (double) random.nextInt(30) + 1 }
+    def closed = []
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new FirstFit()), [40d], 1d,
+        { closed << it }).setMaxOpenBins(1, OnlinePacker.Eviction.OLDEST)
+
+    when:
+    pieces.each { packer.offer(it) }
+    packer.flush()
+    def nextFit = new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                                       .setPackingPolicy(new NextFit())
+                                       .packAll(pieces, [], [40d])
+
+    then:
+    closed*.pieces == nextFit*.pieces
+  }
+
+  @Unroll
+  def "Closing bins keeps one #packing.class.simpleName session and packs as a scan does."() {
+    setup:
+    def random = new Random(37)
+    def pieces = (1..3000).collect { (double) random.nextInt(16) + 5 }
+    def sessions = 0
+    def policy = packing
+    def counted = new IndexedFirstFit<Double, Double, LinearBin>() {
+      @Override
+      PackingSession<Double, Double, LinearBin> begin(List<LinearBin> bins) {
+        sessions++
+        return policy.begin(bins)
+      }
+    }
+    def indexedClosed = []
+    def scannedClosed = []
+    def indexed = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(counted), [40d], 5d,
+        { indexedClosed << it }).setMaxOpenBins(8, eviction)
+    def scanned = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(scan), [40d], 5d,
+        { scannedClosed << it }).setMaxOpenBins(8, eviction)
+
+    when:
+    pieces.each {
+      indexed.offer(it)
+      scanned.offer(it)
+    }
+
+    then:
+    sessions == 1
+    indexedClosed*.pieces == scannedClosed*.pieces
+
+    where:
+    packing                                              | scan           | eviction
+    new IndexedFirstFit<Double, Double, LinearBin>()     | new FirstFit() | OnlinePacker.Eviction.OLDEST
+    new IndexedBestFit<Double, Double, LinearBin>(
+        Function.<Double>identity())                     | new BestFit()  | OnlinePacker.Eviction.FULLEST
+  }
+
+  def "The fullest open bin is evicted."() {
+    setup:
+    def closed = []
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new FirstFit()), [10d], 1d,
+        { closed << it }).setMaxOpenBins(2, OnlinePacker.Eviction.FULLEST)
+
+    when:
+    [5d, 7d, 8d].each { packer.offer(it) }
+
+    then:
+    closed*.pieces == [[7d]]
+    packer.openBins*.pieces == [[5d], [8d]]
+  }
+
+  def "Pieces too big for a new bin are spliced by a SpliceableBinPacker."() {
+    setup:
+    def closed = []
+    def packer = new OnlinePacker<Double, Double, LinearBin>(
+        new SpliceableBinPacker(), [8d], 1d, { closed << it })
+
+    when:
+    packer.offer(19d)
+    packer.flush()
+
+    then:
+    closed*.pieces == [[8d], [8d], [3d]]
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * PackingArenaTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import groovy.transform.CompileStatic
+import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.packing.WorstFit
+import net.jnellis.binpack.preorder.AsIs
+import net.jnellis.binpack.preorder.Ascending
+import net.jnellis.binpack.preorder.Descending
+import net.jnellis.binpack.preorder.ParallelDescending
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.lang.management.ManagementFactory
+
+class PackingArenaTest extends Specification {
+
+  @Unroll
+  def "Arena packs as a StoredBinPacker with #packing.class.simpleName and #preOrder.class.simpleName."() {
+    setup:
+    def random = new Random(17)
+    double[] pieces = (1..500).collect { random.nextInt(60) + 1d }
+    def arena = new PackingArena(preOrder, packing)
+    def binPacker = new StoredBinPacker()
+    binPacker.setPreOrderPolicy(preOrder).setPackingPolicy(packing)
+
+    when:
+    arena.addExistingBin(30d)
+    def expected = binPacker.store
+    expected.addExistingBin(30d)
+    binPacker.packAll(pieces.toList(), [100d, 70d])
+
+    then:
+    arena.packAll(pieces, [100d, 70d] as double[]).bins*.pieces ==
+        expected.bins*.pieces
+
+    where:
+    packing         | preOrder
+    new FirstFit()  | new Descending()
+    new BestFit()   | new Descending()
+    new NextFit()   | new AsIs()
+    new BestFit()   | new Ascending()
+    new FirstFit()  | new ParallelDescending()
+    new WorstFit()  | new Descending()
+    new FirstFit()  | new LinearBinPackerTest.DescendingAsAscending()
+    new BestFit()   | new LinearBinPackerTest.AscendingAsDescending()
+  }
+
+  def "Reset empties the store and keeps its bin views."() {
+    setup:
+    def arena = new PackingArena(new Descending<>(), new BestFit<>())
+    def view = arena.packAll([7d, 4d, 3d] as double[],
+                             [10d] as double[]).getBin(0)
+
+    when:
+    arena.reset()
+    def store = arena.packAll([2d, 9d] as double[], [10d] as double[])
+
+    then:
+    store.size() == 2
+    store.getPieceCount() == 2
+    store.getBin(0).is(view)
+    view.pieces == [9d]
+    store.bins*.total == [9d, 2d]
+  }
+
+  def "A piece too big for a new bin is an error."() {
+    when:
+    new PackingArena(new AsIs<>(), new FirstFit<>())
+        .packAll([11d] as double[], [10d] as double[])
+
+    then:
+    thrown(AssertionError)
+  }
+
+  def "Steady state packing allocates less than a byte per job."() {
+    setup:
+    def random = new Random(19)
+    double[] pieces = (1..200).collect { random.nextDouble() * 50d }
+    def arena = new PackingArena(new Descending<>(), new BestFit<>())
+    ArenaLoop.run(arena, pieces, new double[0], 1000)
+
+    expect:
+    ArenaLoop.run(arena, pieces, new double[0], 1000) < 1000L
+  }
+
+  def "Offcuts that differ from job to job don't allocate."() {
+    setup:
+    def random = new Random(23)
+    double[] pieces = (1..200).collect { random.nextDouble() * 50d }
+    double[] warmUp = (1..1000).collect { random.nextDouble() * 60d + 10d }
+    double[] offcuts = (1..1000).collect { random.nextDouble() * 60d + 10d }
+    def arena = new PackingArena(new Descending<>(), new BestFit<>())
+    ArenaLoop.run(arena, pieces, warmUp, 1000)
+
+    expect:
+    ArenaLoop.run(arena, pieces, offcuts, 1000) < 1000L
+  }
+
+  @CompileStatic
+  static class ArenaLoop {
+
+    static long run(final PackingArena arena,
+                    final double[] pieces,
+                    final double[] offcuts,
+                    final int jobs) {
+
+      final double[] capacities = [100d, 70d] as double[]
+      final com.sun.management.ThreadMXBean threads =
+          (com.sun.management.ThreadMXBean) ManagementFactory.threadMXBean
+      final long id = Thread.currentThread().id
+      final long before = threads.getThreadAllocatedBytes(id)
+      for (int i = 0; i < jobs; i++) {
+        arena.reset()
+        if (offcuts.length > 0) {
+          arena.addExistingBin(offcuts[i % offcuts.length])
+        }
+        arena.packAll(pieces, capacities)
+      }
+      return threads.getThreadAllocatedBytes(id) - before
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * PackingProcessorTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import net.jnellis.binpack.packing.FirstFit
+import spock.lang.Specification
+
+import java.util.concurrent.Flow
+import java.util.concurrent.SubmissionPublisher
+import java.util.concurrent.TimeUnit
+
+class PackingProcessorTest extends Specification {
+
+  def "Pieces published upstream arrive downstream packed."() {
+    setup:
+    def random = new Random(41)
+    def pieces = (1..2000).collect { (double) random.nextInt(16) + 5 }
+    def source = new SubmissionPublisher<Double>()
+    def processor = new PackingProcessor<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new FirstFit()), [40d], 5d)
+        .setMaxOpenBins(8, OnlinePacker.Eviction.FULLEST)
+    def bins = Collections.synchronizedList([])
+    def done = processor.consume { bins << it }
+    source.subscribe(processor)
+
+    when:
+    pieces.each { source.submit(it) }
+    source.close()
+    done.get(10, TimeUnit.SECONDS)
+
+    then:
+    bins*.pieces.flatten().sort() == pieces.sort(false)
+    bins.every { it.total <= 40d }
+  }
+
+  def "Pieces are requested in batches of the room left for open bins."() {
+    setup:
+    def requests = []
+    def processor = new PackingProcessor<Double, Double, LinearBin>(
+        new LinearBinPacker().setPackingPolicy(new FirstFit()), [10d], 1d)
+        .setMaxOpenBins(3, OnlinePacker.Eviction.OLDEST)
+
+    when:
+    processor.onSubscribe(subscription(requests))
+
+    then:
+    requests == [3]
+
+    when:
+    [6d, 6d, 6d].each { processor.onNext(it) }
+
+    then: "three bins are open, one more is asked for at a time"
+    requests == [3, 1]
+  }
+
+  def "A piece too big for a bin fails the processor and cancels the source."() {
+    setup:
+    def cancelled = false
+    def processor = new PackingProcessor<Double, Double, LinearBin>(
+        new LinearBinPacker(), [10d], 1d)
+    def done = processor.consume {}
+    processor.onSubscribe([request: {}, cancel: { cancelled = true }]
+                              as Flow.Subscription)
+
+    when:
+    processor.onNext(11d)
+    done.get(10, TimeUnit.SECONDS)
+
+    then:
+    thrown(Exception)
+    cancelled
+    processor.closedException instanceof AssertionError
+  }
+
+  static Flow.Subscription subscription(List requests) {
+    return [request: { long n -> requests << n }, cancel: {}] as Flow.Subscription
+  }
+}
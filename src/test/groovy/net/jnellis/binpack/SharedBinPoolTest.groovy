@@ -0,0 +1,122 @@
+/*
+ * SharedBinPoolTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class SharedBinPoolTest extends Specification {
+
+  def "Stock bins are packed first and new bins opened when none fit."() {
+    setup:
+    def pool = new SharedBinPool(10d, 1000L, 1)
+    def stock = pool.addExistingBin(5d)
+
+    when:
+    def first = pool.pack(4d)
+    def second = pool.pack(2d)
+    def third = pool.pack(1d)
+
+    then:
+    first.is(stock)
+    !second.existing
+    third.is(stock)
+    pool.bins*.pieces == [[4d, 1d], [2d]]
+    stock.total == 5d
+    stock.maxRemainingCapacity == 0d
+  }
+
+  def "Pieces are rounded up so a bin never holds more than its capacity."() {
+    setup:
+    def pool = new SharedBinPool(1d, 10L, 1)
+
+    when:
+    def bin = pool.pack(0.31d)
+    pool.pack(0.31d)
+    pool.pack(0.31d)
+
+    then: "each piece takes 0.4 units"
+    pool.bins.size() == 2
+    bin.pieces == [0.31d, 0.31d]
+    !bin.canFit(0.21d)
+  }
+
+  def "Full bins are no longer searched but are still returned."() {
+    setup:
+    def pool = new SharedBinPool(10d, 1000L, 1)
+    def stock = pool.addExistingBin(5d)
+
+    when:
+    pool.pack(5d)
+    pool.pack(6d)
+    pool.pack(4d)
+
+    then:
+    pool.openBinCount == 0
+    pool.bins*.pieces == [[5d], [6d, 4d]]
+    stock.maxRemainingCapacity == 0d
+  }
+
+  def "Bins that can't fit the smallest piece expected are no longer searched."() {
+    setup:
+    def pool = new SharedBinPool(1d, 100L, 1, 0.3d)
+
+    when:
+    def first = pool.pack(0.75d)
+    def second = pool.pack(0.2d)
+
+    then: "0.25 is left in the first bin, less than the smallest piece"
+    pool.openBinCount == 1
+    !second.is(first)
+    pool.bins*.pieces == [[0.75d], [0.2d]]
+  }
+
+  def "A piece too big for a new bin is rejected."() {
+    when:
+    new SharedBinPool(8d).pack(9d)
+
+    then:
+    thrown(AssertionError)
+  }
+
+  def "Threads packing at once keep every piece and never overfill a bin."() {
+    setup:
+    def pool = new SharedBinPool(100d, 1000L, 4)
+    (1..20).each { pool.addExistingBin(100d) }
+    def threads = 8
+    def perThread = 5000
+    def executor = Executors.newFixedThreadPool(threads)
+    def start = new CountDownLatch(1)
+    def futures = (1..threads).collect { t ->
+      executor.submit({
+        def random = new Random(t)
+        start.await()
+        (1..perThread).collect {
+          def piece = (double) random.nextInt(30) + 1
+          pool.pack(piece)
+          piece
+        }
+      } as java.util.concurrent.Callable)
+    }
+
+    when:
+    start.countDown()
+    def packed = futures.collectMany { it.get(30, TimeUnit.SECONDS) }
+
+    then:
+    pool.bins*.pieces.flatten().sort() == packed.sort(false)
+    pool.bins.every { it.pieces.sum(0d) <= 100d && it.total == it.pieces.sum(0d) }
+
+    cleanup:
+    executor.shutdown()
+  }
+}
@@ -10,8 +10,13 @@ package net.jnellis.binpack
 
 
 import net.jnellis.binpack.packing.BestFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.NextFit
 import net.jnellis.binpack.packing.PackingPolicy
+import net.jnellis.binpack.preorder.Ascending
+import net.jnellis.binpack.preorder.AsIs
 import net.jnellis.binpack.preorder.Descending
+import net.jnellis.binpack.preorder.ParallelDescending
 import net.jnellis.binpack.preorder.PreOrderPolicy
 import spock.lang.Shared
 import spock.lang.Specification
@@ -75,6 +80,69 @@ class SpliceableBinPackerTest extends Specification {
     existingBins = bins.size();
   }
 
+  @Unroll
+  def "Spliced pieces pack the same as pre-spliced ones with #policyName and #orderName."() {
+    setup:
+    def pieces = [9d, 20d, 2.5d, 13d, 1d, 6d]
+    def spliced = new LinearBinPacker()
+    spliced.setPackingPolicy(policy).setPreOrderPolicy(order)
+    def spliceable = new SpliceableBinPacker()
+    spliceable.setPackingPolicy(policy).setPreOrderPolicy(order)
 
-}
+    expect:
+    spliceable.packAll(pieces, [], [6d, 4d])*.pieces ==
+        spliced.packAll(SpliceableBinPacker.createSplicePieces(pieces, 6d),
+                        [], [6d, 4d])*.pieces
+
+    where:
+    [policy, order] << [[new BestFit<>(), new FirstFit<>(), new NextFit<>()],
+                        [new Descending<>(), new ParallelDescending(),
+                         new AsIs<>(), new Ascending<>(),
+                         new LinearBinPackerTest.DescendingAsAscending()]]
+        .combinations()
+    policyName = policy.getClass().getSimpleName()
+    orderName = order.getClass().getSimpleName()
+  }
+
+  def "Full lengths interleave with the other pieces when not pre-ordered descending."() {
+    setup:
+    def packer = new SpliceableBinPacker()
+    packer.setPackingPolicy(new NextFit<>()).setPreOrderPolicy(new AsIs<>())
+
+    when:
+    def bins = packer.packAll([2d, 13d, 2d], [], [6d])
+
+    then: "next fit moves on from the first bin once a full length is packed"
+    bins*.pieces == [[2d], [6d], [6d], [1d, 2d]]
+  }
 
+  def "A long run is a bin per full length plus its remainder."() {
+    when:
+    def bins = new SpliceableBinPacker().packAll([10000d], [], [6d])
+
+    then:
+    bins.size() == 1667
+    bins.take(1666).every { it.pieces == [6d] }
+    bins[1666].pieces == [4d]
+  }
+
+  def "Full lengths go through the policy when an existing bin fits one."() {
+    setup:
+    def existing = new LinearBin(10d)
+
+    when:
+    def bins = new SpliceableBinPacker().packAll([13d], [existing], [6d])
+
+    then:
+    bins*.pieces == [[6d, 1d], [6d]]
+  }
+
+  def "Splices are made lazily."() {
+    expect:
+    SpliceableBinPacker.splicePieces([1e15d, 5d].stream(), 6d)
+                       .limit(3)
+                       .collect() == [6d, 6d, 6d]
+    SpliceableBinPacker.splicePieces([13d, 0d, 12d].stream(), 6d)
+                       .collect() == [6d, 6d, 1d, 6d, 6d]
+  }
+}
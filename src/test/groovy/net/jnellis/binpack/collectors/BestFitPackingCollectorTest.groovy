@@ -21,6 +21,7 @@ import java.util.stream.Collectors
 import java.util.stream.Stream
 
 import static net.jnellis.binpack.collectors.BestFitPackingCollector.bestFitPacking
+import static net.jnellis.binpack.collectors.BestFitPackingCollector.parallelBestFitPacking
 
 /**
  * User: Joe Nellis
@@ -112,5 +113,54 @@ class BestFitPackingCollectorTest extends Specification {
 
   }
 
-}
+  def "Combining keeps every bin, including bins with the same remaining capacity."() {
+    setup:
+    def collector = bestFitPacking(LinearBin.newBinSupplier([8d]),
+        Function.identity())
+    def left = collector.supplier().get()
+    def right = collector.supplier().get()
+    [5d, 6d].each { collector.accumulator().accept(left, it) }
+    [5d, 7d].each { collector.accumulator().accept(right, it) }
+
+    when:
+    def bins = collector.finisher().apply(collector.combiner().apply(left, right))
+
+    then:
+    bins*.pieces.sort() == [[5d], [5d], [6d], [7d]]
+  }
+
+  @Unroll
+  def "Parallel streams keep every piece when #description."() {
+    setup:
+    def random = new Random(7)
+    def pieces = (1..20000).collect { random.nextDouble() * 5d }
+
+    when:
+    def bins = pieces.parallelStream().collect(collector)
 
+    then:
+    bins*.pieces.flatten().sort() == pieces.sort(false)
+    bins.every { it.total <= 8d }
+
+    where:
+    description         | collector
+    "merging"           | bestFitPacking(LinearBin.newBinSupplier([8d]), Function.identity())
+    "re-packing"        | parallelBestFitPacking(LinearBin.newBinSupplier([8d]), Function.identity())
+  }
+
+  def "Re-packing empties underfilled bins of the smaller result."() {
+    setup:
+    def collector = parallelBestFitPacking(LinearBin.newBinSupplier([8d]),
+        Function.identity())
+    def larger = collector.supplier().get()
+    def smaller = collector.supplier().get()
+    [6d, 6d, 5d].each { collector.accumulator().accept(larger, it) }
+    [1d, 1.5d].each { collector.accumulator().accept(smaller, it) }
+
+    when:
+    def bins = collector.finisher().apply(collector.combiner().apply(smaller, larger))
+
+    then:
+    bins*.pieces.sort() == [[5d], [6d, 1.5d], [6d, 1d]].sort()
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * ConcurrentBestFitPackingCollectorTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors
+
+import net.jnellis.binpack.LinearBin
+import spock.lang.Specification
+
+import java.util.function.Function
+import java.util.stream.Collector
+
+import static net.jnellis.binpack.collectors.BestFitPackingCollector.bestFitPacking
+import static net.jnellis.binpack.collectors.ConcurrentBestFitPackingCollector.concurrentBestFitPacking
+
+class ConcurrentBestFitPackingCollectorTest extends Specification {
+
+  def "The collector is concurrent and unordered."() {
+    expect:
+    concurrentBestFitPacking(LinearBin.newBinSupplier([8d]),
+        Function.identity()).characteristics() ==
+        [Collector.Characteristics.CONCURRENT,
+         Collector.Characteristics.UNORDERED] as Set
+  }
+
+  def "The accumulation is a read-only view of the packed bins."() {
+    setup:
+    def collector = concurrentBestFitPacking(LinearBin.newBinSupplier([8d]),
+        Function.identity())
+    def accumulation = collector.supplier().get()
+
+    when:
+    collector.accumulator().accept(accumulation, 5d)
+    collector.accumulator().accept(accumulation, 6d)
+
+    then:
+    accumulation.size() == 2
+    accumulation*.total.sort() == [5d, 6d]
+
+    when:
+    accumulation.clear()
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "Sequential streams pack the same bins as the best fit collector."() {
+    setup:
+    def random = new Random(11)
+    def pieces = (1..5000).collect { (double) random.nextInt(50) + 1 }
+    def capacities = [100d, 60d]
+
+    when:
+    def concurrent = pieces.stream().collect(
+        concurrentBestFitPacking(LinearBin.newBinSupplier(capacities),
+            Function.identity()))
+    def sequential = pieces.stream().collect(
+        bestFitPacking(LinearBin.newBinSupplier(capacities),
+            Function.identity()))
+
+    then:
+    concurrent*.pieces.sort() == sequential*.pieces.sort()
+  }
+
+  def "Parallel streams share bins and keep every piece."() {
+    setup:
+    def random = new Random(13)
+    def pieces = (1..20000).collect { random.nextDouble() * 5d }
+
+    when:
+    def bins = pieces.parallelStream().collect(
+        concurrentBestFitPacking(LinearBin.newBinSupplier([8d]),
+            Function.identity()))
+    def sequential = pieces.stream().collect(
+        bestFitPacking(LinearBin.newBinSupplier([8d]), Function.identity()))
+
+    then:
+    bins*.pieces.flatten().sort() == pieces.sort(false)
+    bins.every { it.total <= 8d }
+    bins.size() <= sequential.size() * 1.05
+  }
+}
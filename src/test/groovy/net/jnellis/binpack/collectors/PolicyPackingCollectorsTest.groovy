@@ -0,0 +1,117 @@
+/*
+ * PolicyPackingCollectorsTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.collectors
+
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.packing.AlmostWorstFit
+import net.jnellis.binpack.packing.FirstFit
+import net.jnellis.binpack.packing.NextFit
+import net.jnellis.binpack.packing.WorstFit
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+import static net.jnellis.binpack.collectors.AlmostWorstFitPackingCollector.almostWorstFitPacking
+import static net.jnellis.binpack.collectors.FirstFitPackingCollector.firstFitPacking
+import static net.jnellis.binpack.collectors.NextFitPackingCollector.nextFitPacking
+import static net.jnellis.binpack.collectors.WorstFitPackingCollector.worstFitPacking
+
+class PolicyPackingCollectorsTest extends Specification {
+
+  @Unroll
+  def "#name collector packs the same bins as #packing.class.simpleName."() {
+    setup:
+    def random = new Random(17)
+    def pieces = (1..3000).collect { (double) random.nextInt(40) + 1 }
+    def capacities = [100d, 70d]
+    def collector = factory.call(LinearBin.newBinSupplier(capacities),
+        Function.identity())
+
+    when:
+    def collected = pieces.stream().collect(collector)
+    def packed = new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                                      .setPackingPolicy(packing)
+                                      .packAll(pieces, [], capacities)
+
+    then:
+    collected*.pieces == packed*.pieces
+
+    where:
+    name             | factory                                                | packing
+    "FirstFit"       | FirstFitPackingCollector.&firstFitPacking             | new FirstFit()
+    "NextFit"        | NextFitPackingCollector.&nextFitPacking               | new NextFit()
+    "WorstFit"       | WorstFitPackingCollector.&worstFitPacking             | new WorstFit()
+    "AlmostWorstFit" | AlmostWorstFitPackingCollector.&almostWorstFitPacking | new AlmostWorstFit()
+  }
+
+  @Unroll
+  def "#name collector keeps every piece of a parallel stream."() {
+    setup:
+    def random = new Random(19)
+    def pieces = (1..20000).collect { random.nextDouble() * 5d }
+
+    when:
+    def bins = pieces.parallelStream().collect(
+        factory.call(LinearBin.newBinSupplier([8d]), Function.identity()))
+
+    then:
+    bins*.pieces.flatten().sort() == pieces.sort(false)
+    bins.every { it.total <= 8d }
+
+    where:
+    name             | factory
+    "FirstFit"       | FirstFitPackingCollector.&firstFitPacking
+    "NextFit"        | NextFitPackingCollector.&nextFitPacking
+    "WorstFit"       | WorstFitPackingCollector.&worstFitPacking
+    "AlmostWorstFit" | AlmostWorstFitPackingCollector.&almostWorstFitPacking
+  }
+
+  def "Collectors pack streams that are never buffered."() {
+    setup:
+    def lines = new BufferedReader(new StringReader("5\n4\n3\n2\n6\n"))
+
+    expect:
+    lines.lines().map { Double.valueOf(it) }
+         .collect(firstFitPacking(LinearBin.newBinSupplier([8d]),
+                                  Function.identity()))*.pieces ==
+        [[5d, 3d], [4d, 2d], [6d]]
+  }
+
+  @Unroll
+  def "#name collector accumulates into a read-only list of its bins."() {
+    setup:
+    def collector = factory.call(LinearBin.newBinSupplier([8d]),
+        Function.identity())
+    def accumulation = collector.supplier().get()
+
+    when:
+    collector.accumulator().accept(accumulation, 5d)
+    collector.accumulator().accept(accumulation, 6d)
+
+    then:
+    accumulation instanceof List
+    accumulation*.pieces == [[5d], [6d]]
+
+    when:
+    accumulation.clear()
+
+    then:
+    thrown(UnsupportedOperationException)
+
+    where:
+    name             | factory
+    "FirstFit"       | FirstFitPackingCollector.&firstFitPacking
+    "NextFit"        | NextFitPackingCollector.&nextFitPacking
+    "WorstFit"       | WorstFitPackingCollector.&worstFitPacking
+    "AlmostWorstFit" | AlmostWorstFitPackingCollector.&almostWorstFitPacking
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * ExactFitTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+class ExactFitTest extends Specification {
+
+  def "A piece completing an offcut goes to it before the fallback's bin."() {
+    setup:
+    def offcuts = [new LinearBin(5000d), new LinearBin(6000d)]
+    offcuts[0].add(2600d)
+    offcuts[1].add(2400d)
+    def packer = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new ExactFit<>(new FirstFit<>()))
+
+    when:
+    def bins = packer.packAll([3600d, 2400d], offcuts, [6000d])
+
+    then:
+    bins*.pieces == [[2400d, 3600d], [2600d, 2400d]]
+  }
+
+  def "Complementary pieces are paired as they come along."() {
+    setup:
+    def packer = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new ExactFit<>(new FirstFit<>()))
+
+    when:
+    def bins = packer.packAll([3600d, 4000d, 2000d, 2400d], [], [6000d])
+
+    then:
+    bins*.pieces == [[3600d, 2400d], [4000d, 2000d]]
+    new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                         .setPackingPolicy(new FirstFit<>())
+                         .packAll([3600d, 4000d, 2000d, 2400d], [],
+                                  [6000d]).size() == 3
+  }
+
+  def "A tolerance matches remaining capacities on a grid."() {
+    setup:
+    def bins = [new LinearBin(10d), new LinearBin(10d)]
+    bins[0].add(6.9d)
+    bins[1].add(7.4d)
+    def policy = new ExactFit<>(new FirstFit<LinearBin>(), 0.5d)
+
+    expect:
+    policy.chooseBin(3d, bins).get().is(bins[0])
+    policy.chooseBin(2.5d, bins).get().is(bins[1])
+    new ExactFit<>(new FirstFit<LinearBin>()).chooseBin(2.5d, bins)
+                                             .get().is(bins[0])
+  }
+
+  def "Wrapping best fit packs the same bins as best fit."() {
+    setup:
+    def random = new Random(13)
+    List<Double> pieces = (1..2000).collect { (double) random.nextInt(60) + 1 }
+
+    expect:
+    new LinearBinPacker().setPackingPolicy(new ExactFit<>(new BestFit<>()))
+                         .packAll(new ArrayList<>(pieces), [], [100d])
+        *.total ==
+        new LinearBinPacker().setPackingPolicy(new BestFit<>())
+                             .packAll(new ArrayList<>(pieces), [], [100d])
+        *.total
+  }
+
+  def "Tolerance can't be negative."() {
+    when:
+    new ExactFit<>(new BestFit<LinearBin>(), -1d)
+
+    then:
+    thrown(IllegalArgumentException)
+  }
+
+  @Unroll
+  def "Wrapping #indexed.class.simpleName packs as wrapping #plain.class.simpleName."() {
+    setup:
+    def random = new Random(23)
+    def jobs = (1..200).collect {
+      (1..60).collect { (double) random.nextInt(9) + 1 }
+    }
+    def packer = { policy ->
+      new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                           .setPackingPolicy(new ExactFit<>(policy))
+    }
+
+    expect:
+    jobs.every { job ->
+      packer.call(indexed).packAll(new ArrayList<>(job), [], [10d])*.pieces ==
+          packer.call(plain).packAll(new ArrayList<>(job), [], [10d])*.pieces
+    }
+
+    where:
+    indexed                                       | plain
+    new IndexedFirstFit()                         | new FirstFit()
+    new IndexedBestFit(Function.<Double>identity()) | new BestFit()
+    new IndexedWorstFit()                         | new WorstFit()
+  }
+}
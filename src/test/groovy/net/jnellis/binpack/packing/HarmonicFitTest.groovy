@@ -0,0 +1,97 @@
+/*
+ * HarmonicFitTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static net.jnellis.binpack.collectors.HarmonicPackingCollector.harmonicPacking
+
+class HarmonicFitTest extends Specification {
+
+  @Unroll
+  def "A piece of #piece is in class #expected."() {
+    expect:
+    HarmonicFit.sizeClass(piece, 12d, 4) == expected
+
+    where:
+    piece | expected
+    12d   | 1
+    6.1d  | 1
+    6d    | 2
+    4.1d  | 2
+    4d    | 3
+    3.1d  | 3
+    3d    | 4
+    0.5d  | 4
+    0d    | 4
+  }
+
+  def "Each class has one open bin and bins of class j take j pieces."() {
+    setup:
+    def packer = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new HarmonicFit<>(3, 12d))
+
+    when:
+    def bins = packer.packAll([7d, 5d, 8d, 5d, 2d, 5d, 3d, 1d], [], [12d])
+
+    then:
+    bins*.pieces == [[7d], [5d, 5d], [8d], [2d, 3d, 1d], [5d]]
+  }
+
+  def "Calls outside of a session find the open bins again."() {
+    setup:
+    def bins = new ArrayList<LinearBin>()
+    def packer = new LinearBinPacker()
+        .setPackingPolicy(new HarmonicFit<>(3, 12d))
+
+    when:
+    [7d, 5d, 8d, 5d, 2d, 5d, 3d, 1d].each { packer.pack(it, bins, [12d]) }
+
+    then:
+    bins*.pieces == [[7d], [5d, 5d], [8d], [2d, 3d, 1d], [5d]]
+  }
+
+  def "The collector packs the same bins as the policy."() {
+    setup:
+    def random = new Random(37)
+    def pieces = (1..5000).collect { random.nextDouble() * 40d }
+
+    when:
+    def collected = pieces.stream().collect(
+        harmonicPacking(LinearBin.newBinSupplier([40d]), 6, 40d))
+    def packed = new LinearBinPacker()
+        .setPreOrderPolicy(new AsIs<>())
+        .setPackingPolicy(new HarmonicFit<>(6, 40d))
+        .packAll(pieces, [], [40d])
+
+    then:
+    collected*.pieces == packed*.pieces
+    pieces.parallelStream().collect(
+        harmonicPacking(LinearBin.newBinSupplier([40d]), 6, 40d))*.pieces
+          .flatten().sort() == pieces.sort(false)
+  }
+
+  def "Classes and capacity are validated."() {
+    when:
+    new HarmonicFit<>(classes, capacity)
+
+    then:
+    thrown(IllegalArgumentException)
+
+    where:
+    classes | capacity
+    0       | 10d
+    3       | 0d
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * IndexedBestFitTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.Bin
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+class IndexedBestFitTest extends Specification {
+
+  @Shared
+  def bins = new ArrayList<Bin<Double>>();
+
+  @Shared
+  def policy = new IndexedBestFit(Function.identity())
+
+  @Unroll
+  def "Pack the fullest bin that still has space."() {
+    setup:
+    def binPacker = new LinearBinPacker().setPackingPolicy(policy)
+    def availableCapacities = [8d, 4d, 3d].asList()
+    expect:
+    binPacker.pack(piece, bins, availableCapacities).collect {
+      it.getPieces()
+    } == expectedResult
+    where:
+    piece || expectedResult
+
+    8d    || [[8d]]
+    7.9d  || [[8d], [7.9d]]
+    6d    || [[8d], [7.9d], [6d]]
+    5d    || [[8d], [7.9d], [6d], [5d]]
+    3d    || [[8d], [7.9d], [6d], [5d, 3d]]
+    2d    || [[8d], [7.9d], [6d, 2d], [5d, 3d]]
+  }
+
+  @Unroll
+  def "Same bins as #scan.class.simpleName with existing and multi capacity bins."() {
+    setup:
+    def random = new Random(11)
+    // whole numbers so that many bins tie on remaining capacity
+    def pieces = (1..3000).collect { (double) random.nextInt(70) + 1 }
+    def capacities = [100d, 60d, 75d]
+    def existing = { [new LinearBin(30d), new LinearBin(120d), new LinearBin(30d)] }
+    def packer = { policy ->
+      new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                           .setPackingPolicy(policy)
+    }
+
+    when:
+    def expected = packer(scan).packAll(pieces, existing(), capacities)
+    def result = packer(indexed).packAll(pieces, existing(), capacities)
+
+    then:
+    result*.pieces == expected*.pieces
+
+    where:
+    scan           | indexed
+    new BestFit()  | new IndexedBestFit(Function.identity())
+    new WorstFit() | new IndexedWorstFit()
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * IndexedFirstFitTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.Bin
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class IndexedFirstFitTest extends Specification {
+
+  @Shared
+  def bins = new ArrayList<Bin<Double>>();
+
+  @Shared
+  def policy = new IndexedFirstFit()
+
+  @Unroll
+  def "Pack the first bin with space available."() {
+    setup:
+    def binPacker = new LinearBinPacker().setPackingPolicy(policy)
+    def availableCapacities = [8d, 4d, 3d].asList()
+    expect:
+    binPacker.pack(piece, bins, availableCapacities).collect {
+      it.getPieces()
+    } == expectedResult
+    where:
+    piece || expectedResult
+
+    8d    || [[8d]]
+    5d    || [[8d], [5d]]
+    5d    || [[8d], [5d], [5d]]
+    4d    || [[8d], [5d], [5d], [4d]]
+    3d    || [[8d], [5d, 3d], [5d], [4d]]
+    2d    || [[8d], [5d, 3d], [5d, 2d], [4d]]
+  }
+
+  def "Same bins as FirstFit with existing and multi capacity bins."() {
+    setup:
+    def random = new Random(7)
+    def pieces = (1..5000).collect { random.nextDouble() * 90d }
+    def capacities = [100d, 60d, 75d]
+    def existing = { [new LinearBin(30d), new LinearBin(120d), new LinearBin(5d)] }
+    def packer = { policy ->
+      new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                           .setPackingPolicy(policy)
+    }
+
+    when:
+    def expected = packer(new FirstFit()).packAll(pieces, existing(), capacities)
+    def result = packer(new IndexedFirstFit()).packAll(pieces, existing(), capacities)
+
+    then:
+    result*.pieces == expected*.pieces
+  }
+
+  def "Index is rebuilt for a different list of bins."() {
+    setup:
+    def policy = new IndexedFirstFit()
+    def binPacker = new LinearBinPacker().setPackingPolicy(policy)
+
+    when:
+    binPacker.pack(5d, [new LinearBin(10d)], [10d])
+    def other = [new LinearBin(4d), new LinearBin(6d)]
+    binPacker.pack(5d, other, [10d])
+
+    then:
+    other*.pieces == [[], [5d]]
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * IndexedWorstFitTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.Bin
+import net.jnellis.binpack.LinearBinPacker
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class IndexedWorstFitTest extends Specification {
+  @Shared
+  def bins = new ArrayList<Bin<Double>>();
+
+  @Shared
+  def policy = new IndexedWorstFit()
+
+  @Unroll
+  def "Pack the emptiest bin or a new bin."() {
+    setup:
+    def binPacker = new LinearBinPacker().setPackingPolicy(policy)
+    def availableCapacities = [8d, 4d, 3d].asList()
+    expect:
+    binPacker.pack(piece, bins, availableCapacities).collect {
+      it.getPieces()
+    } == expectedResult
+    where:
+    piece || expectedResult
+
+    8d    || [[8d]]
+    5d    || [[8d], [5d]]
+    5d    || [[8d], [5d], [5d]]
+    4d    || [[8d], [5d], [5d], [4d]]
+    3.6d  || [[8d], [5d], [5d], [4d, 3.6d]]
+    2.5d  || [[8d], [5d, 2.5d], [5d], [4d, 3.6d]]
+    2.3d  || [[8d], [5d, 2.5d], [5d, 2.3d], [4d, 3.6d]]
+    0.5d  || [[8d], [5d, 2.5d], [5d, 2.3d, 0.5d], [4d, 3.6d]]
+  }
+}
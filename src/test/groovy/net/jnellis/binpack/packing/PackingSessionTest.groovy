@@ -0,0 +1,202 @@
+/*
+ * PackingSessionTest.groovy
+ *
+ * Copyright (c) 2026. Joe Nellis
+ * Distributed under MIT License. See accompanying file License.txt or at
+ * http://opensource.org/licenses/MIT
+ */
+
+package net.jnellis.binpack.packing
+
+import net.jnellis.binpack.LinearBin
+import net.jnellis.binpack.LinearBinPacker
+import net.jnellis.binpack.preorder.AsIs
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+
+class PackingSessionTest extends Specification {
+
+  def "PackAll drives one session through begin, choose, notifications and end."() {
+    setup:
+    def events = []
+    def policy = new PackingPolicy<Double, Double, LinearBin>() {
+      @Override
+      Optional<LinearBin> chooseBin(Double piece, List<LinearBin> bins) {
+        return new FirstFit<Double, Double, LinearBin>().chooseBin(piece, bins)
+      }
+
+      @Override
+      PackingSession<Double, Double, LinearBin> begin(List<LinearBin> bins) {
+        events << "begin ${bins.size()}"
+        def policy = this
+        return new PackingSession<Double, Double, LinearBin>() {
+          @Override
+          Optional<LinearBin> chooseBin(Double piece) {
+            events << "choose $piece"
+            return policy.chooseBin(piece, bins)
+          }
+
+          @Override
+          void binAdded(LinearBin bin) {
+            events << "new bin ${bins.indexOf(bin)}"
+          }
+
+          @Override
+          void pieceAdded(LinearBin bin, Double piece) {
+            events << "added $piece to ${bins.indexOf(bin)}"
+          }
+
+          @Override
+          void end() {
+            events << "end"
+          }
+        }
+      }
+    }
+    def binPacker = new LinearBinPacker().setPreOrderPolicy(new AsIs<>())
+                                         .setPackingPolicy(policy)
+
+    when:
+    def bins = binPacker.packAll([6d, 3d, 5d], [new LinearBin(4d)], [8d])
+
+    then:
+    bins*.pieces == [[3d], [6d], [5d]]
+    events == ["begin 1",
+               "choose 6.0", "new bin 1", "added 6.0 to 1",
+               "choose 3.0", "added 3.0 to 0",
+               "choose 5.0", "new bin 2", "added 5.0 to 2",
+               "end"]
+  }
+
+  def "Stateless policies are adapted to a session."() {
+    setup:
+    def bins = [new LinearBin(4d), new LinearBin(8d)]
+    def session = new BestFit<Double, Double, LinearBin>().begin(bins)
+
+    expect:
+    session.chooseBin(3.5d).get().is(bins[0])
+    session.chooseBin(5d).get().is(bins[1])
+    !session.chooseBin(9d).isPresent()
+  }
+
+  def "Sessions of one indexed policy keep separate indexes."() {
+    setup:
+    def policy = new IndexedFirstFit<Double, Double, LinearBin>()
+    def first = [new LinearBin(4d), new LinearBin(8d)]
+    def second = [new LinearBin(8d)]
+    def firstSession = policy.begin(first)
+    def secondSession = policy.begin(second)
+
+    when:
+    def a = firstSession.chooseBin(5d).get()
+    a.add(5d)
+    firstSession.pieceAdded(a, 5d)
+    def b = secondSession.chooseBin(5d).get()
+    b.add(5d)
+    secondSession.pieceAdded(b, 5d)
+
+    then:
+    a.is(first[1])
+    b.is(second[0])
+    firstSession.chooseBin(4d).get().is(first[0])
+    !secondSession.chooseBin(4d).isPresent()
+  }
+
+  def "Indexed sessions re-index bins they did not choose."() {
+    setup:
+    def bins = [new LinearBin(10d), new LinearBin(10d)]
+    def session = new IndexedBestFit<Double, Double, LinearBin>(
+        java.util.function.Function.<Double>identity()).begin(bins)
+
+    when:
+    bins[1].add(7d)
+    session.pieceAdded(bins[1], 7d)
+
+    then:
+    session.chooseBin(2d).get().is(bins[1])
+    session.chooseBin(4d).get().is(bins[0])
+  }
+
+  def "Indexed policies outside of a session see every change to the bins."() {
+    setup:
+    def bins = [new LinearBin(10d), new LinearBin(10d)]
+    def policy = new IndexedWorstFit<Double, Double, LinearBin>()
+
+    expect:
+    policy.chooseBin(2d, bins).get().is(bins[0])
+    bins[0].add(2d)
+    policy.chooseBin(2d, bins).get().is(bins[1])
+  }
+
+  @Unroll
+  def "#policy.class.simpleName sessions drop removed bins and choose as a new session would."() {
+    setup:
+    def random = new Random(23)
+    def bins = []
+    def session = policy.begin(bins)
+
+    when:
+    def mismatches = 0
+    for (int i = 0; i < 2000; i++) {
+      def piece = (double) random.nextInt(9) + 1
+      def bin = session.chooseBin(piece).orElse(null)
+      if (bin == null) {
+        bin = new LinearBin(10d)
+        bins << bin
+        session.binAdded(bin)
+      }
+      bin.add(piece)
+      session.pieceAdded(bin, piece)
+      if (random.nextInt(3) == 0) {
+        def removed = bins.remove(random.nextInt(bins.size()))
+        session.binRemoved(removed)
+      }
+      def probe = (double) random.nextInt(9) + 1
+      def chosen = session.chooseBin(probe).orElse(null)
+      def expected = policy.begin(new ArrayList(bins)).chooseBin(probe)
+                           .orElse(null)
+      def same = identical
+                 ? chosen.is(expected)
+                 : chosen?.maxRemainingCapacity ==
+                   expected?.maxRemainingCapacity
+      if (!same || (chosen != null && !bins.any { it.is(chosen) })) {
+        mismatches++
+      }
+    }
+
+    then:
+    mismatches == 0
+
+    where:
+    // which of several exact fits is chosen depends on the order they were
+    // hashed, so only their remaining capacity is compared
+    policy                                                | identical
+    new IndexedFirstFit<Double, Double, LinearBin>()      | true
+    new IndexedBestFit<Double, Double, LinearBin>(
+        Function.<Double>identity())                      | true
+    new IndexedWorstFit<Double, Double, LinearBin>()      | true
+    new ExactFit<LinearBin>(
+        new IndexedBestFit<>(Function.<Double>identity())) | false
+  }
+
+  def "Harmonic sessions forget a removed open bin."() {
+    setup:
+    def bins = []
+    def session = new HarmonicFit<LinearBin>(3, 10d).begin(bins)
+    def bin = new LinearBin(10d)
+
+    when:
+    session.chooseBin(6d)
+    bins << bin
+    session.binAdded(bin)
+    bin.add(6d)
+    session.pieceAdded(bin, 6d)
+    bins.remove(bin)
+    session.binRemoved(bin)
+
+    then:
+    !session.chooseBin(6d).isPresent()
+  }
+}
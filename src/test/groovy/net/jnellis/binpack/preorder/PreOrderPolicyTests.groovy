@@ -32,6 +32,68 @@ class PreOrderPolicyTests extends Specification {
     new Descending<>() || [9, 8, 7, 6, 5, 4, 3, 2, 1]
   }
 
+  @Unroll
+  def "#preOrderPolicy.class.simpleName sorts doubles in place or a copy."() {
+    setup:
+    List<Double> pieces = [6d, 3d, -0d, 5d, 0d, 1d, 3d, 9d]
+    def copyOfPieces = new ArrayList<>(pieces)
+
+    when:
+    def ordered = preOrderPolicy.order(pieces)
+
+    then:
+    ordered == expectedOrdering
+    ordered.is(pieces) == preOrderPolicy.inPlace
+    preOrderPolicy.inPlace || pieces == copyOfPieces
+
+    where:
+    preOrderPolicy                  || expectedOrdering
+    new ParallelAscending()         || [-0d, 0d, 1d, 3d, 3d, 5d, 6d, 9d]
+    new ParallelAscending(false)    || [-0d, 0d, 1d, 3d, 3d, 5d, 6d, 9d]
+    new ParallelDescending()        || [9d, 6d, 5d, 3d, 3d, 1d, 0d, -0d]
+    new ParallelDescending(false)   || [9d, 6d, 5d, 3d, 3d, 1d, 0d, -0d]
+  }
+
+  def "Parallel orderings match the boxed orderings on large inputs."() {
+    setup:
+    def random = new java.util.Random(7)
+    List<Double> pieces = (1..100_000).collect { random.nextInt(1000) / 8d }
+
+    expect:
+    new ParallelAscending(false).order(pieces) ==
+        new Ascending<Double>().order(new ArrayList<>(pieces))
+    new ParallelDescending(false).order(pieces) ==
+        new Descending<Double>().order(new ArrayList<>(pieces))
+  }
+
+  def "Pieces are bucketed largest bucket first, keeping their order within."() {
+    setup:
+    def policy = new BucketedDescending(4, 100d)
+    List<Double> pieces = [10d, 80d, 30d, 99d, 0d, 120d, 20d, 76d, 55d]
+
+    expect:
+    policy.order(pieces).is(pieces)
+    pieces == [80d, 99d, 120d, 76d, 55d, 30d, 10d, 0d, 20d]
+    new BucketedDescending(4, 100d, true).order(pieces) ==
+        [120d, 99d, 80d, 76d, 55d, 30d, 20d, 10d, 0d]
+  }
+
+  def "Buckets come from the largest capacity."() {
+    expect:
+    BucketedDescending.forCapacities(10, [40d, 100d, 70d]).bucket(95d) == 9
+    BucketedDescending.forCapacities(10, [40d, 100d, 70d]).bucket(9d) == 0
+  }
+
+  def "Sorted buckets are the descending order."() {
+    setup:
+    def random = new java.util.Random(11)
+    List<Double> pieces = (1..10_000).collect { random.nextDouble() * 150 }
+
+    expect:
+    new BucketedDescending(16, 100d, true).order(new ArrayList<>(pieces)) ==
+        new Descending<Double>().order(new ArrayList<>(pieces))
+  }
+
   def "check list with RandomPolicy is not same after ordering."() {
     setup:
     def copyOfList = [] << list